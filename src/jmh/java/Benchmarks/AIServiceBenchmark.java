@@ -0,0 +1,69 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Service.AIService;
+import Service.AlphaBetaStrategy;
+import Service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AIServiceBenchmark {
+    private static final long UNBOUNDED_BUDGET_MILLIS = 60_000;
+    private static final int SEARCH_DEPTH = 2;
+
+    @Param({"5", "10", "25"})
+    private int size;
+
+    @Param({"sparse", "mid", "dense"})
+    private String fill;
+
+    private Board board;
+    private AIService randomAI;
+    private AIService searchAI;
+    private AlphaBetaStrategy searchStrategy;
+
+    @Setup
+    public void setUp() {
+        BoardService boardService = new BoardService();
+        board = BoardFixtures.create(boardService, size, fill);
+        randomAI = new AIService(boardService);
+        searchStrategy = new AlphaBetaStrategy(boardService, UNBOUNDED_BUDGET_MILLIS, SEARCH_DEPTH);
+        searchAI = new AIService(boardService, searchStrategy);
+    }
+
+    // Fixed-depth search should not be answered from the previous invocation's table
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        searchStrategy.getTranspositionTable().clear();
+    }
+
+    @Benchmark
+    public Position makeMoveRandom() {
+        return randomAI.makeMove(board, Cell.O);
+    }
+
+    @Benchmark
+    public Position makeMoveAlphaBeta() {
+        return searchAI.makeMove(board, Cell.O);
+    }
+}
@@ -0,0 +1,70 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.Cell;
+import Service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"5", "10", "25"})
+    private int size;
+
+    @Param({"sparse", "mid", "dense"})
+    private String fill;
+
+    private Board board;
+    private int emptyRow;
+    private int emptyCol;
+
+    @Setup
+    public void setUp() {
+        board = BoardFixtures.create(new BoardService(), size, fill);
+        for (int i = 0; i < size * size; i++) {
+            if (board.getCell(i / size, i % size) == Cell.EMPTY) {
+                emptyRow = i / size;
+                emptyCol = i % size;
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public void getCell(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                blackhole.consume(board.getCell(i, j));
+            }
+        }
+    }
+
+    @Benchmark
+    public int setCell() {
+        board.setCell(emptyRow, emptyCol, Cell.X);
+        board.setCell(emptyRow, emptyCol, Cell.EMPTY);
+        return board.getFrontierCount();
+    }
+
+    @Benchmark
+    public Board copy() {
+        return board.copy();
+    }
+}
@@ -0,0 +1,68 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameState;
+import Model.Player;
+import Model.Position;
+import Service.BoardService;
+
+import java.util.List;
+import java.util.Random;
+
+final class BoardFixtures {
+    private static final long SEED = 42L;
+    private static final int MAX_ATTEMPTS = 10_000;
+
+    private BoardFixtures() {
+    }
+
+    static double fillRatio(String fill) {
+        switch (fill) {
+            case "sparse":
+                return 0.1;
+            case "mid":
+                return 0.4;
+            case "dense":
+                return 0.75;
+            default:
+                throw new IllegalArgumentException("Unknown fill level: " + fill);
+        }
+    }
+
+    // Alternating legal moves that never complete a line, so win checks scan the whole board
+    static Board create(BoardService boardService, int size, String fill) {
+        Board board = new Board(size, size);
+        Random random = new Random(SEED + size);
+        int target = (int) (size * size * fillRatio(fill));
+        Cell symbol = Cell.X;
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && board.getMoveCount() < target; attempt++) {
+            List<Position> moves = boardService.getValidMoves(board);
+            if (moves.isEmpty()) {
+                break;
+            }
+            Position move = moves.get(random.nextInt(moves.size()));
+            if (boardService.getLongestLine(board, move.getRow(), move.getCol(), symbol)
+                    >= boardService.getWinningCount()) {
+                continue;
+            }
+            board.makeMove(move, symbol);
+            symbol = symbol == Cell.X ? Cell.O : Cell.X;
+        }
+        return board;
+    }
+
+    static GameState gameState(Board board) {
+        Player human = new Player("Benchmark", Cell.X);
+        Player ai = new Player("AI", Cell.O);
+        return GameState.builder()
+                .board(board)
+                .humanPlayer(human)
+                .aiPlayer(ai)
+                .currentPlayer(board.getStoneCount(Cell.X) > board.getStoneCount(Cell.O) ? ai : human)
+                .gameOver(false)
+                .winner(null)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardServiceBenchmark {
+    @Param({"5", "10", "25"})
+    private int size;
+
+    @Param({"sparse", "mid", "dense"})
+    private String fill;
+
+    private BoardService boardService;
+    private Board board;
+    private Position lastMove;
+    private Cell lastSymbol;
+    private int[] moveBuffer;
+
+    @Setup
+    public void setUp() {
+        boardService = new BoardService();
+        board = BoardFixtures.create(boardService, size, fill);
+        lastMove = board.getLastMove();
+        lastSymbol = board.getCell(lastMove);
+        moveBuffer = new int[size * size];
+    }
+
+    @Benchmark
+    public boolean checkWinnerFullScan() {
+        return boardService.checkWinner(board, Cell.X);
+    }
+
+    @Benchmark
+    public boolean checkWinnerLastMove() {
+        return boardService.checkWinner(board, lastMove, lastSymbol);
+    }
+
+    @Benchmark
+    public List<Position> getValidMoves() {
+        return boardService.getValidMoves(board);
+    }
+
+    @Benchmark
+    public int getValidMovesIndices() {
+        return boardService.getValidMoves(board, moveBuffer);
+    }
+
+    @Benchmark
+    public boolean isBoardFull() {
+        return boardService.isBoardFull(board);
+    }
+}
@@ -0,0 +1,67 @@
+package Benchmarks;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Service.BoardService;
+import Service.PatternEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+    @Param({"5", "10", "25"})
+    private int size;
+
+    @Param({"sparse", "mid", "dense"})
+    private String fill;
+
+    private Board board;
+    private PatternEvaluator evaluator;
+    private int row;
+    private int col;
+
+    @Setup
+    public void setUp() {
+        BoardService boardService = new BoardService();
+        board = BoardFixtures.create(boardService, size, fill);
+        evaluator = new PatternEvaluator(boardService.getWinningCount());
+        evaluator.reset(board);
+        Position move = boardService.getValidMoves(board).get(0);
+        row = move.getRow();
+        col = move.getCol();
+    }
+
+    // What a search pays per leaf: make, rescore four lines, evaluate, undo
+    @Benchmark
+    public int incrementalLeaf() {
+        board.makeMove(row, col, Cell.X);
+        evaluator.update(board, row, col);
+        int score = evaluator.evaluate(Cell.X);
+        board.unmakeMove();
+        evaluator.update(board, row, col);
+        return score;
+    }
+
+    @Benchmark
+    public int fullRescore() {
+        evaluator.reset(board);
+        return evaluator.evaluate(Cell.X);
+    }
+}
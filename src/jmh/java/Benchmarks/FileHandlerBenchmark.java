@@ -0,0 +1,78 @@
+package Benchmarks;
+
+import Model.GameState;
+import Service.BoardService;
+import Util.FileHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileHandlerBenchmark {
+    @Param({"5", "10", "25"})
+    private int size;
+
+    @Param({"sparse", "mid", "dense"})
+    private String fill;
+
+    private GameState gameState;
+    private Path saveFile;
+    private Path loadFile;
+    private Path binaryFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        gameState = BoardFixtures.gameState(BoardFixtures.create(new BoardService(), size, fill));
+        saveFile = Files.createTempFile("amoba-bench-save", ".txt");
+        loadFile = Files.createTempFile("amoba-bench-load", ".txt");
+        FileHandler.saveGame(gameState, loadFile.toString());
+        binaryFile = Files.createTempFile("amoba-bench-binary", ".bin");
+        FileHandler.saveGameBinary(gameState, binaryFile.toString());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Benchmark
+    public void saveGame() throws IOException {
+        FileHandler.saveGame(gameState, saveFile.toString());
+    }
+
+    @Benchmark
+    public GameState loadGame() throws IOException {
+        return FileHandler.loadGame(loadFile.toString());
+    }
+
+    @Benchmark
+    public void saveGameBinary() throws IOException {
+        FileHandler.saveGameBinary(gameState, saveFile.toString());
+    }
+
+    @Benchmark
+    public GameState loadGameBinary() throws IOException {
+        return FileHandler.loadGame(binaryFile.toString());
+    }
+}
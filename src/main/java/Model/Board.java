@@ -6,25 +6,63 @@ import java.util.Objects;
 public final class Board {
     private final int rows;
     private final int cols;
-    private final Cell[][] grid;
+    // Bit index of (row, col) is row * stride + col. The extra column per row
+    // is always empty, so shifted lines never wrap into the next row.
+    private final int stride;
+    private final long[] xBits;
+    private final long[] oBits;
+    // Empty cells with at least one occupied neighbour, in the same bit layout
+    private final long[] frontierBits;
+    private int xCount;
+    private int oCount;
+    private int frontierCount;
+    private long zobristKey;
+    // Cell indices (row * cols + col) of moves made through makeMove, for unmakeMove
+    private int[] moveStack;
+    private int moveCount;
 
+    // Only checks what the representation supports; use the GameRules overload
+    // to enforce the limits of a particular variant
     public Board(int rows, int cols) {
-        if (rows < 5 || rows > 25 || cols < 5 || cols > 25 || cols > rows) {
+        if (rows < GameRules.MIN_BOARD_SIZE || rows > GameRules.MAX_BOARD_SIZE
+                || cols < GameRules.MIN_BOARD_SIZE || cols > GameRules.MAX_BOARD_SIZE) {
             throw new IllegalArgumentException("Invalid board dimensions");
         }
 
         this.rows = rows;
         this.cols = cols;
-        this.grid = new Cell[rows][cols];
-        initializeBoard();
+        this.stride = cols + 1;
+        int words = (rows * stride + 63) >>> 6;
+        this.xBits = new long[words];
+        this.oBits = new long[words];
+        this.frontierBits = new long[words];
     }
 
-    private void initializeBoard() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j] = Cell.EMPTY;
-            }
+    public Board(int rows, int cols, GameRules rules) {
+        this(checkDimensions(rows, cols, rules), cols);
+    }
+
+    private static int checkDimensions(int rows, int cols, GameRules rules) {
+        if (!rules.isValidDimension(rows, cols)) {
+            throw new IllegalArgumentException("Invalid board dimensions");
         }
+        return rows;
+    }
+
+    // Copies every field directly instead of allocating zeroed arrays and overwriting them
+    private Board(Board source) {
+        this.rows = source.rows;
+        this.cols = source.cols;
+        this.stride = source.stride;
+        this.xBits = source.xBits.clone();
+        this.oBits = source.oBits.clone();
+        this.frontierBits = source.frontierBits.clone();
+        this.xCount = source.xCount;
+        this.oCount = source.oCount;
+        this.frontierCount = source.frontierCount;
+        this.zobristKey = source.zobristKey;
+        this.moveStack = source.moveCount > 0 ? source.moveStack.clone() : null;
+        this.moveCount = source.moveCount;
     }
 
     public int getRows() {
@@ -37,25 +75,192 @@ public final class Board {
 
     public Cell getCell(int row, int col) {
         validatePosition(row, col);
-        return grid[row][col];
+        int bit = row * stride + col;
+        int word = bit >>> 6;
+        long mask = 1L << bit;
+        if ((xBits[word] & mask) != 0) {
+            return Cell.X;
+        }
+        if ((oBits[word] & mask) != 0) {
+            return Cell.O;
+        }
+        return Cell.EMPTY;
     }
 
     public Cell getCell(Position position) {
         return getCell(position.getRow(), position.getCol());
     }
 
+    // Index form: row * cols + col, as used by the frontier and the move stack
+    public Cell getCell(int index) {
+        validateIndex(index);
+        return getCell(index / cols, index % cols);
+    }
+
     public void setCell(int row, int col, Cell cell) {
         validatePosition(row, col);
         if (cell == null) {
             throw new IllegalArgumentException("Cell cannot be null");
         }
-        grid[row][col] = cell;
+        int bit = row * stride + col;
+        int word = bit >>> 6;
+        long mask = 1L << bit;
+        if ((xBits[word] & mask) != 0) {
+            xBits[word] &= ~mask;
+            xCount--;
+            zobristKey ^= Zobrist.key(bit, Cell.X);
+        } else if ((oBits[word] & mask) != 0) {
+            oBits[word] &= ~mask;
+            oCount--;
+            zobristKey ^= Zobrist.key(bit, Cell.O);
+        }
+        zobristKey ^= Zobrist.key(bit, cell);
+        if (cell == Cell.X) {
+            xBits[word] |= mask;
+            xCount++;
+        } else if (cell == Cell.O) {
+            oBits[word] |= mask;
+            oCount++;
+        }
+        updateFrontier(row, col, cell != Cell.EMPTY);
     }
 
     public void setCell(Position position, Cell cell) {
         setCell(position.getRow(), position.getCol(), cell);
     }
 
+    public void makeMove(int row, int col, Cell symbol) {
+        if (symbol == null || symbol == Cell.EMPTY) {
+            throw new IllegalArgumentException("Invalid move symbol");
+        }
+        if (getCell(row, col) != Cell.EMPTY) {
+            throw new IllegalStateException("Cell is already occupied");
+        }
+        if (moveStack == null) {
+            moveStack = new int[rows * cols];
+        }
+        setCell(row, col, symbol);
+        moveStack[moveCount++] = row * cols + col;
+    }
+
+    public void makeMove(Position position, Cell symbol) {
+        makeMove(position.getRow(), position.getCol(), symbol);
+    }
+
+    public void makeMove(int index, Cell symbol) {
+        validateIndex(index);
+        makeMove(index / cols, index % cols, symbol);
+    }
+
+    public void unmakeMove() {
+        if (moveCount == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        int cell = moveStack[--moveCount];
+        setCell(cell / cols, cell % cols, Cell.EMPTY);
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    // Index of the last move, or -1 when no move has been made through makeMove
+    public int getLastMoveIndex() {
+        return moveCount == 0 ? -1 : moveStack[moveCount - 1];
+    }
+
+    public Position getLastMove() {
+        if (moveCount == 0) {
+            return null;
+        }
+        int cell = moveStack[moveCount - 1];
+        return Position.fromIndex(cell, cols);
+    }
+
+    private void updateFrontier(int row, int col, boolean placed) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                int bit = r * stride + c;
+                boolean frontier;
+                if (isOccupied(bit)) {
+                    frontier = false;
+                } else if (placed) {
+                    frontier = true;
+                } else {
+                    frontier = hasOccupiedNeighbour(r, c);
+                }
+                setFrontierBit(bit, frontier);
+            }
+        }
+    }
+
+    private boolean hasOccupiedNeighbour(int row, int col) {
+        for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+            for (int c = Math.max(0, col - 1); c <= Math.min(cols - 1, col + 1); c++) {
+                if ((r != row || c != col) && isOccupied(r * stride + c)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isOccupied(int bit) {
+        return ((xBits[bit >>> 6] | oBits[bit >>> 6]) & (1L << bit)) != 0;
+    }
+
+    private void setFrontierBit(int bit, boolean frontier) {
+        int word = bit >>> 6;
+        long mask = 1L << bit;
+        boolean present = (frontierBits[word] & mask) != 0;
+        if (frontier && !present) {
+            frontierBits[word] |= mask;
+            frontierCount++;
+        } else if (!frontier && present) {
+            frontierBits[word] &= ~mask;
+            frontierCount--;
+        }
+    }
+
+    public boolean isFrontier(int index) {
+        return isValidIndex(index) && isFrontier(index / cols, index % cols);
+    }
+
+    public boolean isFrontier(int row, int col) {
+        if (!isValidPosition(row, col)) {
+            return false;
+        }
+        int bit = row * stride + col;
+        return (frontierBits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public int getFrontierCount() {
+        return frontierCount;
+    }
+
+    public int getFrontierCells(int[] out) {
+        int count = 0;
+        for (int word = 0; word < frontierBits.length; word++) {
+            long bits = frontierBits[word];
+            while (bits != 0) {
+                int bit = (word << 6) + Long.numberOfTrailingZeros(bits);
+                out[count++] = (bit / stride) * cols + bit % stride;
+                bits &= bits - 1;
+            }
+        }
+        return count;
+    }
+
+    private void validateIndex(int index) {
+        if (!isValidIndex(index)) {
+            throw new IllegalArgumentException("Position out of bounds");
+        }
+    }
+
+    public boolean isValidIndex(int index) {
+        return index >= 0 && index < rows * cols;
+    }
+
     private void validatePosition(int row, int col) {
         if (row < 0 || row >= rows || col < 0 || col >= cols) {
             throw new IllegalArgumentException("Position out of bounds");
@@ -70,18 +275,138 @@ public final class Board {
         return isValidPosition(position.getRow(), position.getCol());
     }
 
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    // Key of the board as it looks after the symmetry; only the stones are walked
+    public long getZobristKey(Symmetry symmetry) {
+        if (symmetry == Symmetry.IDENTITY) {
+            return zobristKey;
+        }
+        return symmetricKey(xBits, Cell.X, symmetry) ^ symmetricKey(oBits, Cell.O, symmetry);
+    }
+
+    private long symmetricKey(long[] bits, Cell cell, Symmetry symmetry) {
+        long key = 0L;
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                int bit = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                int row = bit / stride;
+                int col = bit % stride;
+                int mapped = symmetry.mapRow(row, col, rows, cols) * stride + symmetry.mapCol(row, col, rows, cols);
+                key ^= Zobrist.key(mapped, cell);
+                remaining &= remaining - 1;
+            }
+        }
+        return key;
+    }
+
+    public int getStoneCount(Cell symbol) {
+        if (symbol == Cell.X) {
+            return xCount;
+        }
+        if (symbol == Cell.O) {
+            return oCount;
+        }
+        return getEmptyCount();
+    }
+
+    public int getEmptyCount() {
+        return rows * cols - xCount - oCount;
+    }
+
+    public boolean isEmpty() {
+        return xCount + oCount == 0;
+    }
+
+    public boolean isFull() {
+        return xCount + oCount == rows * cols;
+    }
+
+    public boolean hasLine(Cell symbol, int length) {
+        if (symbol == Cell.EMPTY) {
+            return false;
+        }
+        long[] bits = symbol == Cell.X ? xBits : oBits;
+        // Horizontal, vertical, diagonal and anti-diagonal neighbours
+        int[] shifts = {1, stride, stride + 1, stride - 1};
+
+        for (int shift : shifts) {
+            for (int word = 0; word < bits.length; word++) {
+                long run = bits[word];
+                for (int k = 1; k < length && run != 0; k++) {
+                    run &= shiftedWord(bits, word, k * shift);
+                }
+                if (run != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Like hasLine, but runs longer than length do not count
+    public boolean hasExactLine(Cell symbol, int length) {
+        if (symbol == Cell.EMPTY) {
+            return false;
+        }
+        long[] bits = symbol == Cell.X ? xBits : oBits;
+        int[] shifts = {1, stride, stride + 1, stride - 1};
+
+        for (int shift : shifts) {
+            for (int word = 0; word < bits.length; word++) {
+                long run = bits[word];
+                for (int k = 1; k < length && run != 0; k++) {
+                    run &= shiftedWord(bits, word, k * shift);
+                }
+                // Keep only runs with no stone right before or right after them
+                run &= ~shiftedWord(bits, word, length * shift) & ~precedingWord(bits, word, shift);
+                if (run != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Bits of the cells one shift before each cell of the given word
+    private static long precedingWord(long[] bits, int word, int shift) {
+        int source = word - (shift >>> 6);
+        int offset = shift & 63;
+        long high = source >= 0 ? bits[source] : 0L;
+        if (offset == 0) {
+            return high;
+        }
+        long low = source - 1 >= 0 ? bits[source - 1] : 0L;
+        return (high << offset) | (low >>> (64 - offset));
+    }
+
+    private static long shiftedWord(long[] bits, int word, int shift) {
+        int source = word + (shift >>> 6);
+        int offset = shift & 63;
+        long low = source < bits.length ? bits[source] : 0L;
+        if (offset == 0) {
+            return low;
+        }
+        long high = source + 1 < bits.length ? bits[source + 1] : 0L;
+        return (low >>> offset) | (high << (64 - offset));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Board board = (Board) o;
-        return rows == board.rows && cols == board.cols && Arrays.deepEquals(grid, board.grid);
+        return rows == board.rows && cols == board.cols
+                && Arrays.equals(xBits, board.xBits) && Arrays.equals(oBits, board.oBits);
     }
 
     @Override
     public int hashCode() {
         int result = Objects.hash(rows, cols);
-        result = 31 * result + Arrays.deepHashCode(grid);
+        result = 31 * result + Long.hashCode(zobristKey);
         return result;
     }
 
@@ -89,16 +414,20 @@ public final class Board {
     public String toString() {
         StringBuilder sb = new StringBuilder();
 
-        sb.append("  ");
+        // Wide boards need two-letter columns and three-digit rows
+        int labelWidth = cols > 26 ? 2 : 1;
+        String rowFormat = "%" + Math.max(2, String.valueOf(rows).length()) + "d ";
+
+        sb.append(" ".repeat(String.format(rowFormat, 0).length() - 1));
         for (int j = 0; j < cols; j++) {
-            sb.append(" ").append((char) ('a' + j));
+            sb.append(" ").append(String.format("%-" + labelWidth + "s", Position.columnLabel(j)));
         }
         sb.append("\n");
 
         for (int i = 0; i < rows; i++) {
-            sb.append(String.format("%2d ", i + 1));
+            sb.append(String.format(rowFormat, i + 1));
             for (int j = 0; j < cols; j++) {
-                sb.append(grid[i][j].getSymbol()).append(" ");
+                sb.append(getCell(i, j).getSymbol()).append(labelWidth > 1 ? "  " : " ");
             }
             sb.append("\n");
         }
@@ -107,10 +436,6 @@ public final class Board {
     }
 
     public Board copy() {
-        Board copy = new Board(rows, cols);
-        for (int i = 0; i < rows; i++) {
-            System.arraycopy(grid[i], 0, copy.grid[i], 0, cols);
-        }
-        return copy;
+        return new Board(this);
     }
 }
@@ -23,4 +23,17 @@ public enum Cell {
         }
         throw new IllegalArgumentException("Unknown cell symbol: " + symbol);
     }
+
+    public static Cell fromChar(char symbol) {
+        switch (symbol) {
+            case ' ':
+                return EMPTY;
+            case 'x':
+                return X;
+            case 'o':
+                return O;
+            default:
+                throw new IllegalArgumentException("Unknown cell symbol: " + symbol);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package Model;
+
+import java.util.Objects;
+
+public final class GameRules {
+    // Hard limits of the board representation; variants pick a range inside them
+    public static final int MIN_BOARD_SIZE = 5;
+    public static final int MAX_BOARD_SIZE = 100;
+
+    // The original game: four in a row on boards of 5x5 up to 25x25
+    public static final GameRules DEFAULT = builder().build();
+
+    private final int winLength;
+    private final int minSize;
+    private final int maxSize;
+    private final boolean overlineWins;
+
+    private GameRules(Builder builder) {
+        this.winLength = builder.winLength;
+        this.minSize = builder.minSize;
+        this.maxSize = builder.maxSize;
+        this.overlineWins = builder.overlineWins;
+    }
+
+    public int getWinLength() { return winLength; }
+    public int getMinSize() { return minSize; }
+    public int getMaxSize() { return maxSize; }
+    public boolean isOverlineWins() { return overlineWins; }
+
+    // Columns may not exceed rows, as in the original game
+    public boolean isValidDimension(int rows, int cols) {
+        return rows >= minSize && rows <= maxSize && cols >= minSize && cols <= maxSize && cols <= rows;
+    }
+
+    // Whether a run of this many stones in one direction wins
+    public boolean isWinningRun(int length) {
+        return overlineWins ? length >= winLength : length == winLength;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int winLength = 4;
+        private int minSize = MIN_BOARD_SIZE;
+        private int maxSize = 25;
+        private boolean overlineWins = true;
+
+        public Builder winLength(int winLength) {
+            this.winLength = winLength;
+            return this;
+        }
+
+        public Builder minSize(int minSize) {
+            this.minSize = minSize;
+            return this;
+        }
+
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        // With overlines disallowed only runs of exactly winLength win (exact five)
+        public Builder overlineWins(boolean overlineWins) {
+            this.overlineWins = overlineWins;
+            return this;
+        }
+
+        public GameRules build() {
+            if (minSize < MIN_BOARD_SIZE || maxSize > MAX_BOARD_SIZE || minSize > maxSize) {
+                throw new IllegalArgumentException("Invalid board size range");
+            }
+            if (winLength < 3 || winLength > minSize) {
+                throw new IllegalArgumentException("Invalid winning line length");
+            }
+            return new GameRules(this);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GameRules that = (GameRules) o;
+        return winLength == that.winLength && minSize == that.minSize && maxSize == that.maxSize
+                && overlineWins == that.overlineWins;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(winLength, minSize, maxSize, overlineWins);
+    }
+
+    @Override
+    public String toString() {
+        return winLength + "-in-a-row, " + minSize + ".." + maxSize
+                + (overlineWins ? "" : ", exact length");
+    }
+}
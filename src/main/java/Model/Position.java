@@ -1,8 +1,17 @@
 package Model;
 
-import java.util.Objects;
-
 public final class Position {
+    // One shared instance per coordinate of the largest board; every smaller board
+    // uses a corner of the same table, so no per-size copies are needed
+    private static final int CACHE_SIZE = GameRules.MAX_BOARD_SIZE;
+    private static final Position[] CACHE = new Position[CACHE_SIZE * CACHE_SIZE];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Position(i / CACHE_SIZE, i % CACHE_SIZE);
+        }
+    }
+
     private final int row;
     private final int col;
 
@@ -19,6 +28,24 @@ public final class Position {
         return col;
     }
 
+    // Shared instance for on-board coordinates; off-board ones are still allocated
+    // so callers can report them as invalid
+    public static Position of(int row, int col) {
+        if (row >= 0 && row < CACHE_SIZE && col >= 0 && col < CACHE_SIZE) {
+            return CACHE[row * CACHE_SIZE + col];
+        }
+        return new Position(row, col);
+    }
+
+    // Inverse of toIndex for a board with the given number of columns
+    public static Position fromIndex(int index, int cols) {
+        return of(index / cols, index % cols);
+    }
+
+    public int toIndex(int cols) {
+        return row * cols + col;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -29,13 +56,21 @@ public final class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return 31 * row + col;
     }
 
     @Override
     public String toString() {
-        char colChar = (char) ('a' + col);
-        return "" + colChar + (row + 1);
+        return columnLabel(col) + (row + 1);
+    }
+
+    // Spreadsheet-style column letters: a..z, then aa, ab, ... for boards wider than 26
+    public static String columnLabel(int col) {
+        StringBuilder label = new StringBuilder();
+        for (int c = col + 1; c > 0; c = (c - 1) / 26) {
+            label.append((char) ('a' + (c - 1) % 26));
+        }
+        return label.reverse().toString();
     }
 
     public static Position fromString(String positionStr) {
@@ -43,10 +78,21 @@ public final class Position {
             throw new IllegalArgumentException("Invalid position format");
         }
 
-        char colChar = Character.toLowerCase(positionStr.charAt(0));
-        int col = colChar - 'a';
-        int row = Integer.parseInt(positionStr.substring(1)) - 1;
+        int letters = 0;
+        int col = 0;
+        while (letters < positionStr.length() && Character.isLetter(positionStr.charAt(letters))) {
+            char colChar = Character.toLowerCase(positionStr.charAt(letters));
+            if (colChar < 'a' || colChar > 'z') {
+                throw new IllegalArgumentException("Invalid position format");
+            }
+            col = col * 26 + (colChar - 'a' + 1);
+            letters++;
+        }
+        if (letters == 0) {
+            throw new IllegalArgumentException("Invalid position format");
+        }
+        int row = Integer.parseInt(positionStr.substring(letters)) - 1;
 
-        return new Position(row, col);
+        return of(row, col - 1);
     }
 }
\ No newline at end of file
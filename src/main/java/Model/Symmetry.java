@@ -0,0 +1,86 @@
+package Model;
+
+// The eight symmetries of a square board. Each one maps lines onto lines, so
+// transformed positions are equivalent for play.
+public enum Symmetry {
+    IDENTITY,
+    ROTATE_90,
+    ROTATE_180,
+    ROTATE_270,
+    FLIP_ROWS,
+    FLIP_COLS,
+    TRANSPOSE,
+    ANTI_TRANSPOSE;
+
+    private static final Symmetry[] SQUARE = values();
+    // Rotating or transposing a non-square board would change its dimensions
+    private static final Symmetry[] RECTANGULAR = {IDENTITY, ROTATE_180, FLIP_ROWS, FLIP_COLS};
+
+    public static Symmetry[] forBoard(int rows, int cols) {
+        return (rows == cols ? SQUARE : RECTANGULAR).clone();
+    }
+
+    public int mapRow(int row, int col, int rows, int cols) {
+        switch (this) {
+            case ROTATE_90:
+            case TRANSPOSE:
+                return col;
+            case ROTATE_180:
+            case FLIP_ROWS:
+                return rows - 1 - row;
+            case ROTATE_270:
+            case ANTI_TRANSPOSE:
+                return cols - 1 - col;
+            default:
+                return row;
+        }
+    }
+
+    public int mapCol(int row, int col, int rows, int cols) {
+        switch (this) {
+            case ROTATE_90:
+                return rows - 1 - row;
+            case ROTATE_180:
+            case FLIP_COLS:
+                return cols - 1 - col;
+            case TRANSPOSE:
+            case ROTATE_270:
+                return row;
+            case ANTI_TRANSPOSE:
+                return rows - 1 - row;
+            default:
+                return col;
+        }
+    }
+
+    public Position apply(Position position, int rows, int cols) {
+        return Position.of(mapRow(position.getRow(), position.getCol(), rows, cols),
+                mapCol(position.getRow(), position.getCol(), rows, cols));
+    }
+
+    public Symmetry inverse() {
+        switch (this) {
+            case ROTATE_90:
+                return ROTATE_270;
+            case ROTATE_270:
+                return ROTATE_90;
+            default:
+                return this;
+        }
+    }
+
+    // The symmetry whose image of the board has the smallest Zobrist key; equivalent
+    // positions share that key, which makes it usable as a canonical position hash
+    public static Symmetry canonical(Board board) {
+        Symmetry best = IDENTITY;
+        long bestKey = board.getZobristKey();
+        for (Symmetry symmetry : forBoard(board.getRows(), board.getCols())) {
+            long key = board.getZobristKey(symmetry);
+            if (key < bestKey) {
+                best = symmetry;
+                bestKey = key;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,31 @@
+package Model;
+
+import java.util.SplittableRandom;
+
+final class Zobrist {
+    static final int MAX_BITS = GameRules.MAX_BOARD_SIZE * (GameRules.MAX_BOARD_SIZE + 1);
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long[] X_KEYS = new long[MAX_BITS];
+    private static final long[] O_KEYS = new long[MAX_BITS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < MAX_BITS; i++) {
+            X_KEYS[i] = random.nextLong();
+            O_KEYS[i] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    static long key(int bit, Cell cell) {
+        if (cell == Cell.X) {
+            return X_KEYS[bit];
+        }
+        if (cell == Cell.O) {
+            return O_KEYS[bit];
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,158 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class AIMoveScheduler implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AIMoveScheduler.class);
+
+    private final AIService aiService;
+    private final ExecutorService executor;
+    // Admission covers queued plus running requests; compute permits cap concurrent searches
+    private final Semaphore admission;
+    private final Semaphore computePermits;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalComputeNanos = new LongAdder();
+
+    public AIMoveScheduler(AIService aiService, int maxConcurrent, int maxQueued, boolean virtualThreads) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("Invalid scheduler limits");
+        }
+        this.aiService = aiService;
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-move-", 0).factory())
+                : Executors.newFixedThreadPool(maxConcurrent, Thread.ofPlatform().daemon().name("ai-move-", 0).factory());
+        this.admission = new Semaphore(maxConcurrent + maxQueued);
+        this.computePermits = new Semaphore(maxConcurrent);
+    }
+
+    public CompletableFuture<Position> submit(Board board, Cell symbol, long timeBudgetMillis) {
+        CompletableFuture<Position> result = new CompletableFuture<>();
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            result.completeExceptionally(new RejectedExecutionException("AI move queue is full"));
+            return result;
+        }
+
+        Board snapshot = board.copy();
+        long submittedAt = System.nanoTime();
+        queueDepth.incrementAndGet();
+        // Set by whichever runs first, the task or the cancellation of a task still
+        // waiting in the executor; the winner returns the admission permit
+        AtomicBoolean claimed = new AtomicBoolean();
+
+        Future<?> task;
+        try {
+            task = executor.submit(() -> compute(result, claimed, snapshot, symbol, timeBudgetMillis, submittedAt));
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            admission.release();
+            rejected.increment();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        // Cancelling the returned future interrupts the search so it stops at its next deadline check
+        result.whenComplete((move, error) -> {
+            if (result.isCancelled()) {
+                cancelled.increment();
+                if (claimed.compareAndSet(false, true)) {
+                    admission.release();
+                    queueDepth.decrementAndGet();
+                }
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private void compute(CompletableFuture<Position> result, AtomicBoolean claimed, Board board, Cell symbol,
+                         long timeBudgetMillis, long submittedAt) {
+        if (!claimed.compareAndSet(false, true)) {
+            return;
+        }
+        boolean dequeued = false;
+        try {
+            computePermits.acquire();
+            try {
+                queueDepth.decrementAndGet();
+                dequeued = true;
+                long startedAt = System.nanoTime();
+                started.increment();
+                totalWaitNanos.add(startedAt - submittedAt);
+                if (result.isDone()) {
+                    return;
+                }
+
+                // Budget counts from submission, so queueing time is not added on top
+                long remaining = Math.max(1, timeBudgetMillis - (startedAt - submittedAt) / 1_000_000L);
+                Position move = aiService.makeMove(board, symbol, remaining);
+                totalComputeNanos.add(System.nanoTime() - startedAt);
+                completed.increment();
+                result.complete(move);
+            } finally {
+                computePermits.release();
+            }
+        } catch (InterruptedException e) {
+            result.cancel(false);
+        } catch (RuntimeException e) {
+            logger.warn("AI move computation failed", e);
+            result.completeExceptionally(e);
+        } finally {
+            // Permit first, so a caller that sees the queue drain can submit again
+            admission.release();
+            if (!dequeued) {
+                queueDepth.decrementAndGet();
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getCancelledCount() {
+        return cancelled.sum();
+    }
+
+    public double getAverageWaitMillis() {
+        long count = started.sum();
+        return count == 0 ? 0 : totalWaitNanos.sum() / 1e6 / count;
+    }
+
+    public double getAverageComputeMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0 : totalComputeNanos.sum() / 1e6 / count;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -1,26 +1,169 @@
 package Service;
 
 import Model.Board;
+import Model.Cell;
 import Model.Position;
-
-import java.util.List;
-import java.util.Random;
+import Util.MetricsRegistry;
+import Util.OpeningBook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AIService {
+    private static final Logger logger = LoggerFactory.getLogger(AIService.class);
+    // Share of a per-move budget the threat pre-pass may use before the main search
+    private static final int THREAT_BUDGET_DIVISOR = 4;
+    private static final MetricsRegistry.Histogram THINK_NANOS = MetricsRegistry.getDefault()
+            .histogram("amoba_ai_think_nanos", "Time for the AI to choose a move");
+    private static final MetricsRegistry.Counter BOOK_MOVES = MetricsRegistry.getDefault()
+            .counter("amoba_ai_book_moves_total", "AI moves taken from the opening book");
+    private static final MetricsRegistry.Counter THREAT_MOVES = MetricsRegistry.getDefault()
+            .counter("amoba_ai_threat_moves_total", "AI moves decided by the threat solver");
+
     private final BoardService boardService;
-    private final Random random;
+    private final MoveStrategy strategy;
+    private final ThreatSolver threatSolver;
+    private final OpeningBook openingBook;
+    private final PositionCache positionCache;
 
     public AIService(BoardService boardService) {
+        this(boardService, new RandomMoveStrategy(boardService));
+    }
+
+    public AIService(BoardService boardService, MoveStrategy strategy) {
+        this(boardService, strategy, null);
+    }
+
+    public AIService(BoardService boardService, MoveStrategy strategy, ThreatSolver threatSolver) {
+        this(boardService, strategy, threatSolver, null);
+    }
+
+    public AIService(BoardService boardService, MoveStrategy strategy, ThreatSolver threatSolver,
+                     OpeningBook openingBook) {
+        this(boardService, strategy, threatSolver, openingBook, null);
+    }
+
+    public AIService(BoardService boardService, MoveStrategy strategy, ThreatSolver threatSolver,
+                     OpeningBook openingBook, PositionCache positionCache) {
         this.boardService = boardService;
-        this.random = new Random();
+        this.strategy = strategy;
+        this.threatSolver = threatSolver;
+        // A book built for another win length would give wrong answers; dimensions are
+        // checked per lookup
+        this.openingBook = openingBook != null && openingBook.getWinLength() == boardService.getWinningCount()
+                ? openingBook : null;
+        this.positionCache = positionCache;
+    }
+
+    public PositionCache getPositionCache() {
+        return positionCache;
     }
 
     public Position makeMove(Board board) {
-        List<Position> validMoves = boardService.getValidMoves(board);
+        return makeMove(board, Cell.O);
+    }
+
+    public Position makeMove(Board board, Cell symbol) {
+        long started = System.nanoTime();
+        Position move = chooseMove(board, symbol);
+        THINK_NANOS.recordSince(started);
+        return move;
+    }
+
+    public Position makeMove(Board board, Cell symbol, long timeBudgetMillis) {
+        long started = System.nanoTime();
+        Position move = chooseMove(board, symbol, timeBudgetMillis);
+        THINK_NANOS.recordSince(started);
+        return move;
+    }
+
+    private Position chooseMove(Board board, Cell symbol) {
+        if (!boardService.hasValidMoves(board)) {
+            throw new IllegalStateException("No valid moves available for AI");
+        }
+        Position bookMove = lookupBook(board);
+        if (bookMove != null) {
+            return bookMove;
+        }
+        Position cachedMove = lookupCache(board, symbol);
+        if (cachedMove != null) {
+            return cachedMove;
+        }
+        if (threatSolver != null) {
+            Position forced = threatSolver.solve(board, symbol);
+            if (forced != null) {
+                THREAT_MOVES.increment();
+                logger.debug("Threat search answered with {}", forced);
+                return remember(board, symbol, forced);
+            }
+        }
+        return remember(board, symbol, strategy.selectMove(board, symbol));
+    }
 
-        if (validMoves.isEmpty()) {
+    private Position chooseMove(Board board, Cell symbol, long timeBudgetMillis) {
+        if (!boardService.hasValidMoves(board)) {
             throw new IllegalStateException("No valid moves available for AI");
         }
-        return validMoves.get(random.nextInt(validMoves.size()));
+        Position bookMove = lookupBook(board);
+        if (bookMove != null) {
+            return bookMove;
+        }
+        Position cachedMove = lookupCache(board, symbol);
+        if (cachedMove != null) {
+            return cachedMove;
+        }
+        if (threatSolver != null) {
+            long started = System.nanoTime();
+            Position forced = threatSolver.solve(board, symbol, Math.max(1, timeBudgetMillis / THREAT_BUDGET_DIVISOR));
+            if (forced != null) {
+                THREAT_MOVES.increment();
+                logger.debug("Threat search answered with {}", forced);
+                return remember(board, symbol, forced);
+            }
+            timeBudgetMillis = Math.max(1, timeBudgetMillis - (System.nanoTime() - started) / 1_000_000L);
+        }
+        return remember(board, symbol, strategy.selectMove(board, symbol, timeBudgetMillis));
+    }
+
+    // Packed form (row * cols + col) for callers that keep moves as ints
+    public int makeMoveIndex(Board board, Cell symbol) {
+        return makeMove(board, symbol).toIndex(board.getCols());
+    }
+
+    public int makeMoveIndex(Board board, Cell symbol, long timeBudgetMillis) {
+        return makeMove(board, symbol, timeBudgetMillis).toIndex(board.getCols());
+    }
+
+    // Cached moves were legal in an equivalent position, but a key collision could
+    // still hand back a bad one, so they are checked like book moves
+    private Position lookupCache(Board board, Cell symbol) {
+        if (positionCache == null) {
+            return null;
+        }
+        Position move = positionCache.lookup(board, symbol);
+        if (move == null || !boardService.isValidMove(board, move)) {
+            return null;
+        }
+        logger.debug("Position cache answered with {}", move);
+        return move;
+    }
+
+    private Position remember(Board board, Cell symbol, Position move) {
+        if (positionCache != null && move != null) {
+            positionCache.store(board, symbol, move);
+        }
+        return move;
+    }
+
+    private Position lookupBook(Board board) {
+        if (openingBook == null) {
+            return null;
+        }
+        Position move = openingBook.lookup(board);
+        if (move == null || !boardService.isValidMove(board, move)) {
+            return null;
+        }
+        BOOK_MOVES.increment();
+        logger.debug("Opening book answered with {}", move);
+        return move;
     }
-}
\ No newline at end of file
+}
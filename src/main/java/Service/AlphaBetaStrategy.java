@@ -0,0 +1,367 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Util.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class AlphaBetaStrategy implements MoveStrategy {
+    private static final Logger logger = LoggerFactory.getLogger(AlphaBetaStrategy.class);
+    private static final int WIN_SCORE = 1_000_000;
+    private static final int INFINITY = 2 * WIN_SCORE;
+    private static final int DEADLINE_CHECK_MASK = 255;
+    private static final int DEFAULT_TABLE_ENTRIES = 1 << 18;
+    private static final long SIDE_TO_MOVE_KEY = 0x9E3779B97F4A7C15L;
+    // Keeps static scores well clear of the range used for forced wins
+    private static final int MAX_EVAL = WIN_SCORE / 4;
+    private static final MetricsRegistry.Counter NODES = MetricsRegistry.getDefault()
+            .counter("amoba_search_nodes_total", "Alpha-beta nodes searched");
+
+    private final BoardService boardService;
+    private final long timeBudgetMillis;
+    private final int maxDepth;
+    private final TranspositionTable table;
+    private final int threads;
+    private final Supplier<Evaluator> evaluatorFactory;
+    private final ExecutorService helperPool;
+    private final LongAdder nodesSearched = new LongAdder();
+
+    public AlphaBetaStrategy(BoardService boardService, long timeBudgetMillis, int maxDepth) {
+        this(boardService, timeBudgetMillis, maxDepth, new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+    }
+
+    public AlphaBetaStrategy(BoardService boardService, long timeBudgetMillis, int maxDepth,
+                             TranspositionTable table) {
+        this(boardService, timeBudgetMillis, maxDepth, table, 1);
+    }
+
+    public AlphaBetaStrategy(BoardService boardService, long timeBudgetMillis, int maxDepth,
+                             TranspositionTable table, int threads) {
+        this(boardService, timeBudgetMillis, maxDepth, table, threads,
+                () -> new PatternEvaluator(boardService.getRules(), MAX_EVAL));
+    }
+
+    public AlphaBetaStrategy(BoardService boardService, long timeBudgetMillis, int maxDepth,
+                             TranspositionTable table, int threads, Supplier<Evaluator> evaluatorFactory) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Search depth must be at least 1");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.boardService = boardService;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxDepth = maxDepth;
+        this.table = table;
+        this.threads = threads;
+        this.evaluatorFactory = evaluatorFactory;
+        this.helperPool = threads > 1
+                ? Executors.newFixedThreadPool(threads - 1, Thread.ofPlatform().daemon().name("ai-search-", 1).factory())
+                : null;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getNodesSearched() {
+        return nodesSearched.sum();
+    }
+
+    public void shutdown() {
+        if (helperPool != null) {
+            helperPool.shutdownNow();
+        }
+    }
+
+    @Override
+    public Position selectMove(Board board, Cell symbol) {
+        return selectMove(board, symbol, timeBudgetMillis);
+    }
+
+    @Override
+    public Position selectMove(Board board, Cell symbol, long timeBudgetMillis) {
+        long deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        if (threads == 1) {
+            Search search = new Search(board.copy(), deadline, new AtomicBoolean());
+            search.run(symbol, 1);
+            return search.getBestMove();
+        }
+
+        // Lazy SMP: helpers search the same root on their own boards and share
+        // only the transposition table; odd helpers start one ply deeper
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Search> searches = new ArrayList<>(threads);
+        List<Future<?>> futures = new ArrayList<>(threads - 1);
+        for (int i = 1; i < threads; i++) {
+            Search helper = new Search(board.copy(), deadline, stop);
+            int startDepth = Math.min(maxDepth, 1 + i % 2);
+            searches.add(helper);
+            futures.add(helperPool.submit(() -> helper.run(symbol, startDepth)));
+        }
+
+        Search main = new Search(board.copy(), deadline, stop);
+        main.run(symbol, 1);
+        stop.set(true);
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                logger.warn("Helper search failed", e.getCause());
+            }
+        }
+
+        Search best = main;
+        for (Search helper : searches) {
+            if (helper.completedDepth > best.completedDepth) {
+                best = helper;
+            }
+        }
+        return best.getBestMove();
+    }
+
+    private static Cell opponent(Cell symbol) {
+        return symbol == Cell.X ? Cell.O : Cell.X;
+    }
+
+    // Win scores are stored relative to the node so they stay valid at other plies
+    private static int toTableScore(int score, int ply) {
+        if (score >= WIN_SCORE / 2) {
+            return score + ply;
+        }
+        return score <= -WIN_SCORE / 2 ? score - ply : score;
+    }
+
+    private static int fromTableScore(int score, int ply) {
+        if (score >= WIN_SCORE / 2) {
+            return score - ply;
+        }
+        return score <= -WIN_SCORE / 2 ? score + ply : score;
+    }
+
+    // Holds the mutable state of a single search so the strategy itself can be shared
+    private final class Search {
+        private final Board board;
+        private final long deadline;
+        private final int cols;
+        private final int winningCount;
+        private final int[][] moveBuffers;
+        private final int[][] scoreBuffers;
+        private final AtomicBoolean stop;
+        private final Evaluator evaluator;
+        private long nodes;
+        private boolean aborted;
+        private int bestMove;
+        private int completedDepth;
+
+        Search(Board board, long deadline, AtomicBoolean stop) {
+            this.board = board;
+            this.deadline = deadline;
+            this.stop = stop;
+            this.cols = board.getCols();
+            this.winningCount = boardService.getWinningCount();
+            int cells = board.getRows() * board.getCols();
+            this.moveBuffers = new int[maxDepth + 1][cells];
+            this.scoreBuffers = new int[maxDepth + 1][cells];
+            this.evaluator = evaluatorFactory.get();
+            evaluator.reset(board);
+        }
+
+        Position getBestMove() {
+            return Position.fromIndex(bestMove, cols);
+        }
+
+        void run(Cell symbol, int startDepth) {
+            int[] moves = moveBuffers[0];
+            int count = boardService.getValidMoves(board, moves);
+            orderMoves(moves, scoreBuffers[0], count, symbol);
+
+            bestMove = moves[0];
+            int bestScore = 0;
+
+            for (int depth = startDepth; depth <= maxDepth; depth++) {
+                int alpha = -INFINITY;
+                int iterationBest = -1;
+
+                for (int i = 0; i < count; i++) {
+                    int score = playAndSearch(moves[i], symbol, depth, alpha, INFINITY, 0);
+                    if (aborted) {
+                        break;
+                    }
+                    if (score > alpha) {
+                        alpha = score;
+                        iterationBest = i;
+                    }
+                }
+
+                if (aborted) {
+                    break;
+                }
+
+                // Search the previous best first in the next iteration
+                bestMove = moves[iterationBest];
+                bestScore = alpha;
+                completedDepth = depth;
+                System.arraycopy(moves, 0, moves, 1, iterationBest);
+                moves[0] = bestMove;
+
+                if (Math.abs(bestScore) >= WIN_SCORE - maxDepth) {
+                    break;
+                }
+            }
+
+            nodesSearched.add(nodes);
+            NODES.add(nodes);
+            logger.debug("Search finished: depth {}, score {}, {} nodes", completedDepth, bestScore, nodes);
+        }
+
+        private int negamax(Cell toMove, int depth, int alpha, int beta, int ply) {
+            if ((++nodes & DEADLINE_CHECK_MASK) == 0
+                    && (System.nanoTime() > deadline || stop.get() || Thread.currentThread().isInterrupted())) {
+                aborted = true;
+            }
+            if (aborted) {
+                return 0;
+            }
+            if (depth == 0) {
+                return evaluate(toMove);
+            }
+
+            long key = toMove == Cell.O ? board.getZobristKey() ^ SIDE_TO_MOVE_KEY : board.getZobristKey();
+            long entry = table.probe(key);
+            int tableMove = TranspositionTable.NO_MOVE;
+            if (entry != 0) {
+                tableMove = TranspositionTable.getMove(entry);
+                if (TranspositionTable.getDepth(entry) >= depth) {
+                    int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+                    int flag = TranspositionTable.getFlag(entry);
+                    if (flag == TranspositionTable.EXACT) {
+                        return score;
+                    } else if (flag == TranspositionTable.LOWER_BOUND) {
+                        alpha = Math.max(alpha, score);
+                    } else {
+                        beta = Math.min(beta, score);
+                    }
+                    if (alpha >= beta) {
+                        return score;
+                    }
+                }
+            }
+
+            int[] moves = moveBuffers[ply];
+            int count = board.getFrontierCells(moves);
+            if (count == 0) {
+                return 0;
+            }
+            orderMoves(moves, scoreBuffers[ply], count, toMove);
+            promote(moves, count, tableMove);
+
+            int originalAlpha = alpha;
+            int best = -INFINITY;
+            int bestMove = moves[0];
+            for (int i = 0; i < count; i++) {
+                int score = playAndSearch(moves[i], toMove, depth, alpha, beta, ply);
+                if (aborted) {
+                    return 0;
+                }
+                if (score > best) {
+                    best = score;
+                    bestMove = moves[i];
+                }
+                if (best > alpha) {
+                    alpha = best;
+                }
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+
+            int flag = best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                    : best >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+            table.store(key, bestMove, toTableScore(best, ply), depth, flag);
+            return best;
+        }
+
+        private void promote(int[] moves, int count, int move) {
+            if (move == TranspositionTable.NO_MOVE) {
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                if (moves[i] == move) {
+                    System.arraycopy(moves, 0, moves, 1, i);
+                    moves[0] = move;
+                    return;
+                }
+            }
+        }
+
+        private int playAndSearch(int move, Cell toMove, int depth, int alpha, int beta, int ply) {
+            int row = move / cols;
+            int col = move % cols;
+            board.makeMove(row, col, toMove);
+            evaluator.update(board, row, col);
+            int score;
+            if (boardService.isWinningMove(board, row, col, toMove)) {
+                score = WIN_SCORE - (ply + 1);
+            } else {
+                score = -negamax(opponent(toMove), depth - 1, -beta, -alpha, ply + 1);
+            }
+            board.unmakeMove();
+            evaluator.update(board, row, col);
+            return score;
+        }
+
+        private void orderMoves(int[] moves, int[] scores, int count, Cell toMove) {
+            Cell other = opponent(toMove);
+            for (int i = 0; i < count; i++) {
+                int row = moves[i] / cols;
+                int col = moves[i] % cols;
+                int own = boardService.getLongestLine(board, row, col, toMove);
+                int blocked = boardService.getLongestLine(board, row, col, other);
+                scores[i] = (own >= winningCount ? 4 * winningCount * winningCount : own * own * 2)
+                        + (blocked >= winningCount ? 2 * winningCount * winningCount : blocked * blocked);
+            }
+
+            // Insertion sort by descending score; move lists are short
+            for (int i = 1; i < count; i++) {
+                int move = moves[i];
+                int score = scores[i];
+                int j = i - 1;
+                while (j >= 0 && scores[j] < score) {
+                    moves[j + 1] = moves[j];
+                    scores[j + 1] = scores[j];
+                    j--;
+                }
+                moves[j + 1] = move;
+                scores[j + 1] = score;
+            }
+        }
+
+        private int evaluate(Cell toMove) {
+            int score = evaluator.evaluate(toMove);
+            return Math.max(-MAX_EVAL, Math.min(MAX_EVAL, score));
+        }
+    }
+}
@@ -8,167 +8,199 @@ import org.slf4j.LoggerFactory;
 
 import Model.Board;
 import Model.Cell;
+import Model.GameRules;
 import Model.Position;
+import Util.MetricsRegistry;
 
 public class BoardService {
     private static final Logger logger = LoggerFactory.getLogger(BoardService.class);
-    private static final int WINNING_COUNT = 4;
+    private static final int[] LINE_ROW_DIRS = {0, 1, 1, 1};
+    private static final int[] LINE_COL_DIRS = {1, 0, 1, -1};
+    private static final MetricsRegistry.Histogram CHECK_WINNER_NANOS = MetricsRegistry.getDefault()
+            .histogram("amoba_check_winner_nanos", "Time to check a move for a win");
+    private static final MetricsRegistry.Histogram VALID_MOVES = MetricsRegistry.getDefault()
+            .histogram("amoba_valid_moves", "Valid moves found per getValidMoves call");
+
+    private final GameRules rules;
+
+    public BoardService() {
+        this(GameRules.DEFAULT);
+    }
+
+    public BoardService(GameRules rules) {
+        this.rules = rules;
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
 
     public boolean isValidMove(Board board, Position position) {
+        // Called for every candidate cell, so skip even the logger call when debug is off
         if (!board.isValidPosition(position)) {
-            logger.debug("Position {} is out of bounds", position);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Position {} is out of bounds", position);
+            }
             return false;
         }
 
         if (board.getCell(position) != Cell.EMPTY) {
-            logger.debug("Position {} is already occupied", position);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Position {} is already occupied", position);
+            }
             return false;
         }
 
         if (!touchesExistingSymbols(board, position)) {
-            logger.debug("Position {} does not touch any existing symbols diagonally", position);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Position {} does not touch any existing symbols diagonally", position);
+            }
             return false;
         }
 
         return true;
     }
 
-    private boolean touchesExistingSymbols(Board board, Position position) {
-        if (isBoardEmpty(board)) {
-            return isInCenterArea(board, position);
+    public boolean isValidMove(Board board, int index) {
+        if (!board.isValidIndex(index) || board.getCell(index) != Cell.EMPTY) {
+            return false;
         }
-
-        int[] rowDirs = {-1, -1, -1, 0, 0, 1, 1, 1};
-        int[] colDirs = {-1, 0, 1, -1, 1, -1, 0, 1};
-
-        for (int i = 0; i < rowDirs.length; i++) {
-            int newRow = position.getRow() + rowDirs[i];
-            int newCol = position.getCol() + colDirs[i];
-
-            if (board.isValidPosition(newRow, newCol) &&
-                    board.getCell(newRow, newCol) != Cell.EMPTY) {
-                return true;
-            }
+        if (board.isEmpty()) {
+            return isInCenterArea(board, index / board.getCols(), index % board.getCols());
         }
-
-        return false;
+        return board.isFrontier(index);
     }
 
-    private boolean isBoardEmpty(Board board) {
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getCols(); j++) {
-                if (board.getCell(i, j) != Cell.EMPTY) {
-                    return false;
-                }
-            }
+    private boolean touchesExistingSymbols(Board board, Position position) {
+        if (board.isEmpty()) {
+            return isInCenterArea(board, position);
         }
-        return true;
+
+        return board.isFrontier(position.getRow(), position.getCol());
     }
 
     private boolean isInCenterArea(Board board, Position position) {
+        return isInCenterArea(board, position.getRow(), position.getCol());
+    }
+
+    private boolean isInCenterArea(Board board, int row, int col) {
         int centerRow = board.getRows() / 2;
         int centerCol = board.getCols() / 2;
-        int row = position.getRow();
-        int col = position.getCol();
 
         return Math.abs(row - centerRow) <= 1 && Math.abs(col - centerCol) <= 1;
     }
 
     public List<Position> getValidMoves(Board board) {
-        List<Position> validMoves = new ArrayList<>();
-
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getCols(); j++) {
-                Position position = new Position(i, j);
-                if (isValidMove(board, position)) {
-                    validMoves.add(position);
-                }
-            }
+        int[] cells = new int[board.isEmpty() ? 9 : board.getFrontierCount()];
+        int count = getValidMoves(board, cells);
+        List<Position> validMoves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            validMoves.add(Position.fromIndex(cells[i], board.getCols()));
         }
 
-        logger.debug("Found {} valid moves", validMoves.size());
+        VALID_MOVES.record(count);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Found {} valid moves", count);
+        }
         return validMoves;
     }
 
-    public boolean checkWinner(Board board, Cell symbol) {
-        return checkHorizontal(board, symbol) ||
-                checkVertical(board, symbol) ||
-                checkDiagonal(board, symbol) ||
-                checkAntiDiagonal(board, symbol);
-    }
-
-    private boolean checkHorizontal(Board board, Cell symbol) {
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j <= board.getCols() - WINNING_COUNT; j++) {
-                boolean win = true;
-                for (int k = 0; k < WINNING_COUNT; k++) {
-                    if (board.getCell(i, j + k) != symbol) {
-                        win = false;
-                        break;
-                    }
-                }
-                if (win) return true;
+    // Writes valid move indices (row * cols + col) into out and returns how many;
+    // out must hold at least max(9, frontier count) entries.
+    // Search loops call this per node, so it records no metrics
+    public int getValidMoves(Board board, int[] out) {
+        if (!board.isEmpty()) {
+            return board.getFrontierCells(out);
+        }
+
+        int count = 0;
+        int centerRow = board.getRows() / 2;
+        int centerCol = board.getCols() / 2;
+        for (int i = centerRow - 1; i <= centerRow + 1; i++) {
+            for (int j = centerCol - 1; j <= centerCol + 1; j++) {
+                out[count++] = i * board.getCols() + j;
             }
         }
-        return false;
+        return count;
     }
 
-    private boolean checkVertical(Board board, Cell symbol) {
-        for (int j = 0; j < board.getCols(); j++) {
-            for (int i = 0; i <= board.getRows() - WINNING_COUNT; i++) {
-                boolean win = true;
-                for (int k = 0; k < WINNING_COUNT; k++) {
-                    if (board.getCell(i + k, j) != symbol) {
-                        win = false;
-                        break;
-                    }
-                }
-                if (win) return true;
-            }
+    public boolean checkWinner(Board board, Cell symbol) {
+        long started = System.nanoTime();
+        boolean won = rules.isOverlineWins()
+                ? board.hasLine(symbol, rules.getWinLength())
+                : board.hasExactLine(symbol, rules.getWinLength());
+        CHECK_WINNER_NANOS.recordSince(started);
+        return won;
+    }
+
+    public boolean checkWinner(Board board, Position lastMove, Cell symbol) {
+        return checkWinner(board, lastMove.getRow(), lastMove.getCol(), symbol);
+    }
+
+    public boolean checkWinner(Board board, int lastMoveIndex, Cell symbol) {
+        if (!board.isValidIndex(lastMoveIndex)) {
+            throw new IllegalArgumentException("Position out of bounds");
         }
-        return false;
+        return checkWinner(board, lastMoveIndex / board.getCols(), lastMoveIndex % board.getCols(), symbol);
     }
 
-    private boolean checkDiagonal(Board board, Cell symbol) {
-        for (int i = 0; i <= board.getRows() - WINNING_COUNT; i++) {
-            for (int j = 0; j <= board.getCols() - WINNING_COUNT; j++) {
-                boolean win = true;
-                for (int k = 0; k < WINNING_COUNT; k++) {
-                    if (board.getCell(i + k, j + k) != symbol) {
-                        win = false;
-                        break;
-                    }
-                }
-                if (win) return true;
-            }
+    private boolean checkWinner(Board board, int row, int col, Cell symbol) {
+        if (board.getCell(row, col) != symbol) {
+            return false;
         }
-        return false;
+
+        long started = System.nanoTime();
+        boolean won = isWinningMove(board, row, col, symbol);
+        CHECK_WINNER_NANOS.recordSince(started);
+        return won;
     }
 
-    private boolean checkAntiDiagonal(Board board, Cell symbol) {
-        for (int i = 0; i <= board.getRows() - WINNING_COUNT; i++) {
-            for (int j = WINNING_COUNT - 1; j < board.getCols(); j++) {
-                boolean win = true;
-                for (int k = 0; k < WINNING_COUNT; k++) {
-                    if (board.getCell(i + k, j - k) != symbol) {
-                        win = false;
-                        break;
-                    }
-                }
-                if (win) return true;
+    // Whether the stone of symbol at (row, col) completes a winning line; only the
+    // four lines through that cell are walked, so the cost does not grow with the board
+    public boolean isWinningMove(Board board, int row, int col, Cell symbol) {
+        for (int i = 0; i < LINE_ROW_DIRS.length; i++) {
+            int count = 1
+                    + countInDirection(board, row, col, LINE_ROW_DIRS[i], LINE_COL_DIRS[i], symbol)
+                    + countInDirection(board, row, col, -LINE_ROW_DIRS[i], -LINE_COL_DIRS[i], symbol);
+            if (rules.isWinningRun(count)) {
+                return true;
             }
         }
         return false;
     }
 
-    public boolean isBoardFull(Board board) {
-        for (int i = 0; i < board.getRows(); i++) {
-            for (int j = 0; j < board.getCols(); j++) {
-                if (board.getCell(i, j) == Cell.EMPTY) {
-                    return false;
-                }
-            }
+    public int getLongestLine(Board board, int row, int col, Cell symbol) {
+        int longest = 0;
+        for (int i = 0; i < LINE_ROW_DIRS.length; i++) {
+            int count = 1
+                    + countInDirection(board, row, col, LINE_ROW_DIRS[i], LINE_COL_DIRS[i], symbol)
+                    + countInDirection(board, row, col, -LINE_ROW_DIRS[i], -LINE_COL_DIRS[i], symbol);
+            longest = Math.max(longest, count);
         }
-        return true;
+        return longest;
+    }
+
+    private int countInDirection(Board board, int row, int col, int rowDir, int colDir, Cell symbol) {
+        int count = 0;
+        int r = row + rowDir;
+        int c = col + colDir;
+        while (board.isValidPosition(r, c) && board.getCell(r, c) == symbol) {
+            count++;
+            r += rowDir;
+            c += colDir;
+        }
+        return count;
+    }
+
+    public boolean hasValidMoves(Board board) {
+        return board.isEmpty() || board.getFrontierCount() > 0;
+    }
+
+    public int getWinningCount() {
+        return rules.getWinLength();
+    }
+
+    public boolean isBoardFull(Board board) {
+        return board.isFull();
     }
 }
@@ -0,0 +1,18 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+
+// Static position score for search leaves. Implementations keep per-line state,
+// so each search thread needs its own instance.
+public interface Evaluator {
+    // Rebuilds the line scores from scratch for the given board
+    void reset(Board board);
+
+    // Rescores only the lines through (row, col); call after that cell changes,
+    // both when a move is made and when it is undone
+    void update(Board board, int row, int col);
+
+    // Positive when the position favours the given side
+    int evaluate(Cell perspective);
+}
@@ -1,95 +1,226 @@
 package Service;
 
 import Model.*;
+import Util.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public class GameService {
     private static final Logger logger = LoggerFactory.getLogger(GameService.class);
+    private static final MetricsRegistry.Counter MOVES_APPLIED = MetricsRegistry.getDefault()
+            .counter("amoba_moves_applied_total", "Moves applied to live games");
+    private static final MetricsRegistry.Histogram MOVE_APPLY_NANOS = MetricsRegistry.getDefault()
+            .histogram("amoba_move_apply_nanos", "Time to apply a move, including the win check");
 
     private final BoardService boardService;
     private final AIService aiService;
-    private GameState currentState;
+    private final AIMoveScheduler aiScheduler;
+
+    // Moves are applied to the board in place; GameState snapshots are built on demand
+    private Board board;
+    private Player humanPlayer;
+    private Player aiPlayer;
+    private Player currentPlayer;
+    private boolean gameOver;
+    private Player winner;
+    private GameState snapshot;
+    // Bumped on every state change so late AI results for an older position are dropped
+    private long version;
+    private CompletableFuture<Position> pendingAIMove;
 
     public GameService(BoardService boardService, AIService aiService) {
+        this(boardService, aiService, null);
+    }
+
+    public GameService(BoardService boardService, AIService aiService, AIMoveScheduler aiScheduler) {
         this.boardService = boardService;
         this.aiService = aiService;
+        this.aiScheduler = aiScheduler;
     }
 
-    public void initializeGame(String humanPlayerName, int rows, int cols) {
+    public synchronized void initializeGame(String humanPlayerName, int rows, int cols) {
+        initializeGame(humanPlayerName, "AI", rows, cols);
+    }
+
+    // Names both sides, for games where neither side is a person at the console
+    public synchronized void initializeGame(String humanPlayerName, String aiPlayerName, int rows, int cols) {
         logger.info("Initializing new game with {}x{} board", rows, cols);
 
-        Board board = new Board(rows, cols);
-        Player humanPlayer = new Player(humanPlayerName, Cell.X);
-        Player aiPlayer = new Player("AI", Cell.O);
+        this.board = new Board(rows, cols, boardService.getRules());
+        this.humanPlayer = new Player(humanPlayerName, Cell.X);
+        this.aiPlayer = new Player(aiPlayerName, Cell.O);
+        this.currentPlayer = humanPlayer; // Human starts
+        this.gameOver = false;
+        this.winner = null;
+        this.snapshot = null;
+        this.version++;
+        cancelPendingAIMove();
+    }
 
-        this.currentState = GameState.builder()
-                .board(board)
-                .humanPlayer(humanPlayer)
-                .aiPlayer(aiPlayer)
-                .currentPlayer(humanPlayer) // Human starts
-                .gameOver(false)
-                .winner(null)
-                .build();
+    public synchronized void restoreGame(GameState state) {
+        this.board = state.getBoard().copy();
+        this.humanPlayer = state.getHumanPlayer();
+        this.aiPlayer = state.getAiPlayer();
+        this.currentPlayer = state.getCurrentPlayer();
+        this.gameOver = state.isGameOver();
+        this.winner = state.getWinner();
+        this.snapshot = null;
+        this.version++;
+        cancelPendingAIMove();
     }
 
-    public boolean makeHumanMove(Position position) {
-        if (currentState.isGameOver()) {
+    public synchronized boolean makeHumanMove(Position position) {
+        if (gameOver) {
             logger.warn("Attempted move after game over");
             return false;
         }
 
-        if (currentState.getCurrentPlayer().getSymbol() != Cell.X) {
+        if (currentPlayer.getSymbol() != Cell.X) {
             logger.warn("Not human player's turn");
             return false;
         }
 
-        if (!boardService.isValidMove(currentState.getBoard(), position)) {
+        if (!boardService.isValidMove(board, position)) {
+            logger.warn("Invalid move attempted at {}", position);
+            return false;
+        }
+
+        return applyMove(position, humanPlayer);
+    }
+
+    public synchronized boolean makeMove(Position position) {
+        if (gameOver) {
+            logger.warn("Attempted move after game over");
+            return false;
+        }
+
+        if (!boardService.isValidMove(board, position)) {
             logger.warn("Invalid move attempted at {}", position);
             return false;
         }
 
-        return applyMove(position, currentState.getHumanPlayer());
+        return applyMove(position, currentPlayer);
     }
 
-    public Position makeAIMove() {
-        if (currentState.isGameOver()) {
+    // The human gives up; the AI is recorded as the winner
+    public synchronized boolean resign() {
+        if (gameOver) {
+            logger.warn("Attempted to resign after game over");
+            return false;
+        }
+
+        cancelPendingAIMove();
+        this.gameOver = true;
+        this.winner = aiPlayer;
+        this.snapshot = null;
+        this.version++;
+        logger.info("Player {} resigned", humanPlayer.getName());
+        return true;
+    }
+
+    // Rebuilds a game from its recorded moves; stops at the first move that does not
+    // belong to the player on turn or is illegal, and returns how many were applied
+    public synchronized int replayGame(String humanPlayerName, int rows, int cols, List<Position> moves, List<Cell> symbols) {
+        initializeGame(humanPlayerName, rows, cols);
+
+        int applied = 0;
+        while (applied < moves.size()) {
+            if (symbols.get(applied) != currentPlayer.getSymbol() || !makeMove(moves.get(applied))) {
+                logger.warn("Replay stopped at move {} of {}", applied + 1, moves.size());
+                break;
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    public synchronized Position makeAIMove() {
+        if (gameOver) {
             logger.warn("Attempted AI move after game over");
             return null;
         }
 
-        if (currentState.getCurrentPlayer().getSymbol() != Cell.O) {
+        if (currentPlayer.getSymbol() != Cell.O) {
             logger.warn("Not AI player's turn");
             return null;
         }
 
-        Position aiMove = aiService.makeMove(currentState.getBoard());
-        if (aiMove != null && applyMove(aiMove, currentState.getAiPlayer())) {
+        Position aiMove = aiService.makeMove(board, aiPlayer.getSymbol());
+        if (aiMove != null && applyMove(aiMove, aiPlayer)) {
             return aiMove;
         }
 
         return null;
     }
 
-    private boolean applyMove(Position position, Player player) {
-        Board newBoard = currentState.getBoard().copy();
-        newBoard.setCell(position, player.getSymbol());
+    public synchronized CompletableFuture<Position> makeAIMoveAsync(long timeBudgetMillis) {
+        if (aiScheduler == null) {
+            return CompletableFuture.completedFuture(makeAIMove());
+        }
+        if (gameOver) {
+            logger.warn("Attempted AI move after game over");
+            return CompletableFuture.completedFuture(null);
+        }
+        if (currentPlayer.getSymbol() != Cell.O) {
+            logger.warn("Not AI player's turn");
+            return CompletableFuture.completedFuture(null);
+        }
 
-        boolean isWinner = boardService.checkWinner(newBoard, player.getSymbol());
-        boolean isBoardFull = boardService.isBoardFull(newBoard);
-        boolean gameOver = isWinner || isBoardFull;
+        cancelPendingAIMove();
+        long expectedVersion = version;
+        CompletableFuture<Position> search = aiScheduler.submit(board, aiPlayer.getSymbol(), timeBudgetMillis);
+        pendingAIMove = search;
 
-        Player nextPlayer = (player.getSymbol() == Cell.X) ? currentState.getAiPlayer() : currentState.getHumanPlayer();
-        Player winner = isWinner ? player : null;
+        CompletableFuture<Position> result = search.thenApply(move -> applyScheduledAIMove(move, expectedVersion));
+        result.whenComplete((move, error) -> {
+            if (result.isCancelled()) {
+                search.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public synchronized void cancelPendingAIMove() {
+        if (pendingAIMove != null) {
+            pendingAIMove.cancel(true);
+            pendingAIMove = null;
+        }
+    }
 
-        this.currentState = GameState.builder()
-                .board(newBoard)
-                .humanPlayer(currentState.getHumanPlayer())
-                .aiPlayer(currentState.getAiPlayer())
-                .currentPlayer(nextPlayer)
-                .gameOver(gameOver)
-                .winner(winner)
-                .build();
+    public synchronized boolean hasPendingAIMove() {
+        return pendingAIMove != null && !pendingAIMove.isDone();
+    }
+
+    private synchronized Position applyScheduledAIMove(Position move, long expectedVersion) {
+        if (version != expectedVersion) {
+            logger.warn("Discarding AI move {} computed for an outdated position", move);
+            return null;
+        }
+        pendingAIMove = null;
+        if (move == null || !boardService.isValidMove(board, move)) {
+            logger.warn("AI produced an invalid move {}", move);
+            return null;
+        }
+        return applyMove(move, aiPlayer) ? move : null;
+    }
+
+    private boolean applyMove(Position position, Player player) {
+        long started = System.nanoTime();
+        board.makeMove(position, player.getSymbol());
+
+        boolean isWinner = boardService.checkWinner(board, position, player.getSymbol());
+        boolean isBoardFull = boardService.isBoardFull(board);
+
+        this.gameOver = isWinner || isBoardFull;
+        this.winner = isWinner ? player : null;
+        this.currentPlayer = (player.getSymbol() == Cell.X) ? aiPlayer : humanPlayer;
+        this.snapshot = null;
+        this.version++;
+        MOVE_APPLY_NANOS.recordSince(started);
+        MOVES_APPLIED.increment();
 
         logger.info("Move applied at {} by {}", position, player.getName());
         if (isWinner) {
@@ -101,19 +232,33 @@ public class GameService {
         return true;
     }
 
-    public GameState getCurrentState() {
-        return currentState;
+    public synchronized GameState getCurrentState() {
+        if (snapshot == null) {
+            snapshot = GameState.builder()
+                    .board(board.copy())
+                    .humanPlayer(humanPlayer)
+                    .aiPlayer(aiPlayer)
+                    .currentPlayer(currentPlayer)
+                    .gameOver(gameOver)
+                    .winner(winner)
+                    .build();
+        }
+        return snapshot;
+    }
+
+    public GameRules getRules() {
+        return boardService.getRules();
     }
 
-    public boolean isGameOver() {
-        return currentState.isGameOver();
+    public synchronized boolean isGameOver() {
+        return gameOver;
     }
 
-    public Player getWinner() {
-        return currentState.getWinner();
+    public synchronized Player getWinner() {
+        return winner;
     }
 
-    public Player getCurrentPlayer() {
-        return currentState.getCurrentPlayer();
+    public synchronized Player getCurrentPlayer() {
+        return currentPlayer;
     }
 }
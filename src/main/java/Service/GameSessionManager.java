@@ -0,0 +1,248 @@
+package Service;
+
+import Model.GameState;
+import Model.Position;
+import Util.FileHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+public class GameSessionManager implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(GameSessionManager.class);
+    private static final String SAVE_EXTENSION = ".bin";
+
+    private final BoardService boardService;
+    private final AIService aiService;
+    private final AIMoveScheduler aiScheduler;
+    private final Path saveDirectory;
+    private final long idleTimeoutNanos;
+    private final long evictionPeriodMillis;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    // Each session is guarded by its own monitor; there is no manager-wide lock
+    private static final class Session {
+        private final GameService game;
+        private volatile long lastAccess = System.nanoTime();
+        private boolean evicted;
+
+        Session(GameService game) {
+            this.game = game;
+        }
+    }
+
+    public GameSessionManager(BoardService boardService, AIService aiService, Path saveDirectory,
+                              long idleTimeoutMillis) throws IOException {
+        this(boardService, aiService, null, saveDirectory, idleTimeoutMillis);
+    }
+
+    public GameSessionManager(BoardService boardService, AIService aiService, AIMoveScheduler aiScheduler,
+                              Path saveDirectory, long idleTimeoutMillis) throws IOException {
+        if (idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Idle timeout must be positive");
+        }
+        this.boardService = boardService;
+        this.aiService = aiService;
+        this.aiScheduler = aiScheduler;
+        this.saveDirectory = Files.createDirectories(saveDirectory);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.evictionPeriodMillis = Math.max(1, idleTimeoutMillis / 2);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("session-evictor").factory());
+    }
+
+    // Schedules idle eviction. Kept out of the constructor so the evictor thread
+    // never sees a manager that is still being built; until then nothing is evicted.
+    public GameSessionManager start() {
+        if (!started.compareAndSet(false, true)) {
+            throw new IllegalStateException("Session manager already started");
+        }
+        evictor.scheduleWithFixedDelay(this::evictIdleSessions, evictionPeriodMillis, evictionPeriodMillis,
+                TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    public String createSession(String humanPlayerName, int rows, int cols) {
+        GameService game = new GameService(boardService, aiService, aiScheduler);
+        game.initializeGame(humanPlayerName, rows, cols);
+
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new Session(game));
+        logger.debug("Created session {}", sessionId);
+        return sessionId;
+    }
+
+    public boolean makeHumanMove(String sessionId, Position position) {
+        return withSession(sessionId, game -> game.makeHumanMove(position));
+    }
+
+    public boolean makeMove(String sessionId, Position position) {
+        return withSession(sessionId, game -> game.makeMove(position));
+    }
+
+    public Position makeAIMove(String sessionId) {
+        return withSession(sessionId, GameService::makeAIMove);
+    }
+
+    public CompletableFuture<Position> makeAIMoveAsync(String sessionId, long timeBudgetMillis) {
+        return withSession(sessionId, game -> game.makeAIMoveAsync(timeBudgetMillis));
+    }
+
+    public boolean resign(String sessionId) {
+        return withSession(sessionId, GameService::resign);
+    }
+
+    public GameState getState(String sessionId) {
+        return withSession(sessionId, GameService::getCurrentState);
+    }
+
+    public boolean hasSession(String sessionId) {
+        return sessions.containsKey(sessionId)
+                || (isValidSessionId(sessionId) && Files.exists(savePath(sessionId)));
+    }
+
+    public void closeSession(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session != null) {
+            synchronized (session) {
+                session.evicted = true;
+                session.game.cancelPendingAIMove();
+            }
+        }
+        deleteSave(sessionId, savePath(sessionId));
+    }
+
+    private static void deleteSave(String sessionId, Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete saved session {}", sessionId, e);
+        }
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    public int evictIdleSessions() {
+        long now = System.nanoTime();
+        int evicted = 0;
+
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            if (now - session.lastAccess < idleTimeoutNanos) {
+                continue;
+            }
+            GameState state;
+            long accessed;
+            synchronized (session) {
+                // A session waiting on an AI move is not idle; its result would be lost
+                if (session.evicted || now - session.lastAccess < idleTimeoutNanos
+                        || session.game.hasPendingAIMove()) {
+                    continue;
+                }
+                state = session.game.getCurrentState();
+                accessed = session.lastAccess;
+            }
+
+            // The snapshot is immutable, so the file is written without blocking players
+            Path path = savePath(entry.getKey());
+            try {
+                FileHandler.saveGameBinary(state, path.toString());
+            } catch (IOException e) {
+                logger.warn("Failed to save idle session {}, keeping it in memory", entry.getKey(), e);
+                continue;
+            }
+
+            synchronized (session) {
+                if (session.evicted) {
+                    // Closed while saving; closeSession may have deleted the file before it was written
+                    deleteSave(entry.getKey(), path);
+                    continue;
+                }
+                // Used while saving: stays in memory, and the next eviction rewrites the file
+                if (session.lastAccess != accessed) {
+                    continue;
+                }
+                session.evicted = true;
+                sessions.remove(entry.getKey(), session);
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            logger.info("Evicted {} idle sessions", evicted);
+        }
+        return evicted;
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+    }
+
+    private <T> T withSession(String sessionId, Function<GameService, T> action) {
+        while (true) {
+            Session session = sessions.get(sessionId);
+            if (session == null) {
+                session = loadSession(sessionId);
+            }
+            synchronized (session) {
+                // Lost a race with eviction; look the session up again
+                if (session.evicted) {
+                    continue;
+                }
+                session.lastAccess = System.nanoTime();
+                return action.apply(session.game);
+            }
+        }
+    }
+
+    private Session loadSession(String sessionId) {
+        GameState state;
+        try {
+            state = FileHandler.loadGame(savePath(sessionId).toString());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load session " + sessionId, e);
+        }
+        if (state == null) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+
+        GameService game = new GameService(boardService, aiService, aiScheduler);
+        game.restoreGame(state);
+        Session loaded = new Session(game);
+        Session existing = sessions.putIfAbsent(sessionId, loaded);
+        logger.debug("Reloaded session {}", sessionId);
+        return existing != null ? existing : loaded;
+    }
+
+    private Path savePath(String sessionId) {
+        if (!isValidSessionId(sessionId)) {
+            throw new IllegalArgumentException("Invalid session id: " + sessionId);
+        }
+        return saveDirectory.resolve(sessionId + SAVE_EXTENSION);
+    }
+
+    // Session ids come from clients; only canonical UUIDs may name a file
+    private static boolean isValidSessionId(String sessionId) {
+        try {
+            return sessionId != null && UUID.fromString(sessionId).toString().equals(sessionId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Util.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+public class MctsStrategy implements MoveStrategy {
+    private static final Logger logger = LoggerFactory.getLogger(MctsStrategy.class);
+    private static final MetricsRegistry.Counter PLAYOUTS = MetricsRegistry.getDefault()
+            .counter("amoba_mcts_playouts_total", "MCTS random playouts");
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    private final BoardService boardService;
+    private final long timeBudgetMillis;
+    private final double exploration;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private volatile double lastPlayoutsPerSecond;
+    private volatile double lastBytesPerPlayout;
+
+    public MctsStrategy(BoardService boardService, long timeBudgetMillis) {
+        this(boardService, timeBudgetMillis, DEFAULT_EXPLORATION);
+    }
+
+    public MctsStrategy(BoardService boardService, long timeBudgetMillis, double exploration) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        if (exploration < 0) {
+            throw new IllegalArgumentException("Exploration constant cannot be negative");
+        }
+        this.boardService = boardService;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.exploration = exploration;
+        this.threadBean = allocationBean();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    public double getLastPlayoutsPerSecond() {
+        return lastPlayoutsPerSecond;
+    }
+
+    // NaN when the last search ran on a virtual thread or the JVM cannot count allocations
+    public double getLastBytesPerPlayout() {
+        return lastBytesPerPlayout;
+    }
+
+    @Override
+    public Position selectMove(Board board, Cell symbol) {
+        return selectMove(board, symbol, timeBudgetMillis);
+    }
+
+    @Override
+    public Position selectMove(Board board, Cell symbol, long timeBudgetMillis) {
+        return new Search(board.copy()).run(symbol, System.nanoTime() + timeBudgetMillis * 1_000_000L);
+    }
+
+    private static Cell opponent(Cell symbol) {
+        return symbol == Cell.X ? Cell.O : Cell.X;
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final int move;
+        private final Cell mover;
+        private final boolean terminal;
+        private final Cell winner;
+        private int[] untriedMoves;
+        private int untriedCount;
+        private Node[] children;
+        private int childCount;
+        private int visits;
+        private double wins;
+
+        Node(Node parent, int move, Cell mover, boolean terminal, Cell winner) {
+            this.parent = parent;
+            this.move = move;
+            this.mover = mover;
+            this.terminal = terminal;
+            this.winner = winner;
+        }
+    }
+
+    // Tree nodes are allocated on expansion only; playouts run on the scratch
+    // board through makeMove/unmakeMove with a preallocated move buffer
+    private final class Search {
+        private final Board board;
+        private final int cols;
+        private final int[] moveBuffer;
+        private final int rootMoveCount;
+        private final SplittableRandom random = new SplittableRandom();
+
+        Search(Board board) {
+            this.board = board;
+            this.cols = board.getCols();
+            this.moveBuffer = new int[board.getRows() * board.getCols()];
+            this.rootMoveCount = board.getMoveCount();
+        }
+
+        Position run(Cell symbol, long deadline) {
+            Node root = new Node(null, -1, opponent(symbol), false, null);
+            expand(root);
+
+            long playouts = 0;
+            long playoutNanos = 0;
+            long playoutBytes = 0;
+            long threadId = Thread.currentThread().threadId();
+            // Allocation counters only cover platform threads; virtual threads read 0 or -1
+            boolean measureBytes = threadBean != null && !Thread.currentThread().isVirtual();
+
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                Node node = root;
+                while (!node.terminal && node.untriedCount == 0 && node.childCount > 0) {
+                    node = selectChild(node);
+                    play(node.move, node.mover);
+                }
+
+                if (!node.terminal && node.untriedCount > 0) {
+                    node = addChild(node);
+                }
+
+                Cell winner;
+                if (node.terminal) {
+                    winner = node.winner;
+                } else {
+                    long startBytes = measureBytes ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+                    long start = System.nanoTime();
+                    winner = rollout(opponent(node.mover));
+                    playoutNanos += System.nanoTime() - start;
+                    if (measureBytes) {
+                        playoutBytes += threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+                    }
+                    playouts++;
+                }
+
+                for (Node n = node; n != null; n = n.parent) {
+                    n.visits++;
+                    if (winner == n.mover) {
+                        n.wins += 1.0;
+                    } else if (winner == Cell.EMPTY) {
+                        n.wins += 0.5;
+                    }
+                }
+                undoAll();
+            }
+
+            PLAYOUTS.add(playouts);
+            if (playouts > 0) {
+                lastPlayoutsPerSecond = playouts * 1e9 / Math.max(1, playoutNanos);
+                lastBytesPerPlayout = measureBytes ? (double) playoutBytes / playouts : Double.NaN;
+            }
+            logger.debug("MCTS finished: {} iterations, {} playouts, {} playouts/s, {} bytes/playout",
+                    root.visits, playouts, (long) lastPlayoutsPerSecond,
+                    measureBytes ? String.valueOf((long) lastBytesPerPlayout) : "n/a");
+
+            if (root.childCount == 0) {
+                int move = root.untriedMoves[0];
+                return Position.fromIndex(move, cols);
+            }
+            Node best = root.children[0];
+            for (int i = 1; i < root.childCount; i++) {
+                if (root.children[i].visits > best.visits) {
+                    best = root.children[i];
+                }
+            }
+            return Position.fromIndex(best.move, cols);
+        }
+
+        private Node selectChild(Node node) {
+            double logVisits = Math.log(node.visits);
+            Node best = null;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < node.childCount; i++) {
+                Node child = node.children[i];
+                double value = child.wins / child.visits + exploration * Math.sqrt(logVisits / child.visits);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private Node addChild(Node node) {
+            int pick = random.nextInt(node.untriedCount);
+            int move = node.untriedMoves[pick];
+            node.untriedMoves[pick] = node.untriedMoves[--node.untriedCount];
+
+            Cell mover = opponent(node.mover);
+            play(move, mover);
+            boolean won = boardService.isWinningMove(board, move / cols, move % cols, mover);
+            boolean full = !won && !boardService.hasValidMoves(board);
+            Node child = new Node(node, move, mover, won || full, won ? mover : Cell.EMPTY);
+            if (!child.terminal) {
+                expand(child);
+            }
+            node.children[node.childCount++] = child;
+            return child;
+        }
+
+        private void expand(Node node) {
+            int count = generateMoves(moveBuffer);
+            node.untriedMoves = new int[count];
+            System.arraycopy(moveBuffer, 0, node.untriedMoves, 0, count);
+            node.untriedCount = count;
+            node.children = new Node[count];
+        }
+
+        private Cell rollout(Cell toMove) {
+            while (true) {
+                int count = generateMoves(moveBuffer);
+                if (count == 0) {
+                    return Cell.EMPTY;
+                }
+                int move = moveBuffer[random.nextInt(count)];
+                play(move, toMove);
+                if (boardService.isWinningMove(board, move / cols, move % cols, toMove)) {
+                    return toMove;
+                }
+                toMove = opponent(toMove);
+            }
+        }
+
+        private int generateMoves(int[] out) {
+            return boardService.getValidMoves(board, out);
+        }
+
+        private void play(int move, Cell symbol) {
+            board.makeMove(move, symbol);
+        }
+
+        private void undoAll() {
+            while (board.getMoveCount() > rootMoveCount) {
+                board.unmakeMove();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+
+public interface MoveStrategy {
+    Position selectMove(Board board, Cell symbol);
+
+    // Strategies without a time limit ignore the per-request budget
+    default Position selectMove(Board board, Cell symbol, long timeBudgetMillis) {
+        return selectMove(board, symbol);
+    }
+}
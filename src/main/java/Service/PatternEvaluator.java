@@ -0,0 +1,233 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameRules;
+
+import java.util.Arrays;
+
+public class PatternEvaluator implements Evaluator {
+    // Horizontal, vertical, diagonal and anti-diagonal
+    private static final int[] ROW_DIRS = {0, 1, 1, 1};
+    private static final int[] COL_DIRS = {1, 0, 1, -1};
+    private static final int EMPTY = 0;
+    private static final int X = 1;
+    private static final int O = 2;
+    private static final int GROWTH = 10;
+    private static final int MIN_GROWTH = 2;
+    // Weights stop growing here, so long winning lines cannot overflow; even every
+    // run of the largest board at this weight sums well inside a long
+    private static final long MAX_WEIGHT = 1L << 40;
+    // Room left under a score limit for this many open runs one short of a win
+    private static final int THREATS_WITHIN_LIMIT = 4;
+
+    private final int winningCount;
+    private final boolean overlineWins;
+    private final int growth;
+    private final long maxWeight;
+    // weights[length][openEnds] for runs shorter than winningCount
+    private final long[][] weights;
+    private final long winWeight;
+
+    private int rows;
+    private int cols;
+    private byte[] cells;
+    // Per direction and line: X score minus O score of that line
+    private long[][] lineScores;
+    private long total;
+
+    public PatternEvaluator(int winningCount) {
+        this(winningCount, true);
+    }
+
+    public PatternEvaluator(GameRules rules) {
+        this(rules.getWinLength(), rules.isOverlineWins());
+    }
+
+    // Scales the weights to a caller that clamps scores to maxScore: the growth per
+    // stone is lowered until a few open runs one short of a win still fit under it,
+    // so longer-line variants do not flatten every strong position to the limit
+    public PatternEvaluator(GameRules rules, int maxScore) {
+        this(rules.getWinLength(), rules.isOverlineWins(),
+                growthWithin(rules.getWinLength(), maxScore / THREATS_WITHIN_LIMIT),
+                maxScore / THREATS_WITHIN_LIMIT);
+    }
+
+    public PatternEvaluator(int winningCount, boolean overlineWins) {
+        this(winningCount, overlineWins, GROWTH, MAX_WEIGHT);
+    }
+
+    private PatternEvaluator(int winningCount, boolean overlineWins, int growth, long maxWeight) {
+        if (winningCount < 2) {
+            throw new IllegalArgumentException("Winning count must be at least 2");
+        }
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Score limit is too small");
+        }
+        this.winningCount = winningCount;
+        this.overlineWins = overlineWins;
+        this.growth = growth;
+        this.maxWeight = maxWeight;
+        this.weights = new long[winningCount][3];
+        // Each extra stone is worth growth times more (ten by default), a run open on
+        // both sides growth times a half-open one; runs blocked at both ends score nothing
+        long base = 1;
+        for (int length = 2; length < winningCount; length++) {
+            base = grow(base);
+            weights[length][1] = base;
+            weights[length][2] = grow(base);
+        }
+        this.winWeight = grow(grow(base));
+    }
+
+    private long grow(long weight) {
+        return Math.min(weight * growth, maxWeight);
+    }
+
+    // Largest growth up to the default for which an open run one short of a win,
+    // worth growth^(winningCount - 1), stays within limit
+    private static int growthWithin(int winningCount, long limit) {
+        for (int growth = GROWTH; growth > MIN_GROWTH; growth--) {
+            long weight = 1;
+            for (int i = 1; i < winningCount && weight <= limit; i++) {
+                weight *= growth;
+            }
+            if (weight <= limit) {
+                return growth;
+            }
+        }
+        return MIN_GROWTH;
+    }
+
+    @Override
+    public void reset(Board board) {
+        if (cells == null || rows != board.getRows() || cols != board.getCols()) {
+            rows = board.getRows();
+            cols = board.getCols();
+            cells = new byte[rows * cols];
+            int diagonals = rows + cols - 1;
+            lineScores = new long[][]{new long[rows], new long[cols], new long[diagonals], new long[diagonals]};
+        }
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cells[row * cols + col] = code(board.getCell(row, col));
+            }
+        }
+
+        for (long[] scores : lineScores) {
+            Arrays.fill(scores, 0);
+        }
+        total = 0;
+        for (int row = 0; row < rows; row++) {
+            total += rescore(0, row, 0);
+        }
+        for (int col = 0; col < cols; col++) {
+            total += rescore(1, 0, col);
+        }
+        for (int col = cols - 1; col >= 0; col--) {
+            total += rescore(2, 0, col);
+        }
+        for (int row = 1; row < rows; row++) {
+            total += rescore(2, row, 0);
+        }
+        for (int col = 0; col < cols; col++) {
+            total += rescore(3, 0, col);
+        }
+        for (int row = 1; row < rows; row++) {
+            total += rescore(3, row, cols - 1);
+        }
+    }
+
+    @Override
+    public void update(Board board, int row, int col) {
+        cells[row * cols + col] = code(board.getCell(row, col));
+        for (int d = 0; d < ROW_DIRS.length; d++) {
+            // Walk back to the first cell of the line through (row, col)
+            int back = lineOffset(d, row, col);
+            total += rescore(d, row - ROW_DIRS[d] * back, col - COL_DIRS[d] * back);
+        }
+    }
+
+    @Override
+    public int evaluate(Cell perspective) {
+        long score = perspective == Cell.O ? -total : total;
+        return (int) Math.max(-Integer.MAX_VALUE, Math.min(Integer.MAX_VALUE, score));
+    }
+
+    private int lineOffset(int direction, int row, int col) {
+        switch (direction) {
+            case 0:
+                return col;
+            case 1:
+                return row;
+            case 2:
+                return Math.min(row, col);
+            default:
+                return Math.min(row, cols - 1 - col);
+        }
+    }
+
+    private int lineIndex(int direction, int row, int col) {
+        switch (direction) {
+            case 0:
+                return row;
+            case 1:
+                return col;
+            case 2:
+                return col - row + rows - 1;
+            default:
+                return row + col;
+        }
+    }
+
+    // Scores the line starting at (row, col) and returns the change from its previous score
+    private long rescore(int direction, int row, int col) {
+        int rowDir = ROW_DIRS[direction];
+        int colDir = COL_DIRS[direction];
+        long score = 0;
+        int runSymbol = EMPTY;
+        int runLength = 0;
+        boolean openBefore = false;
+        int previous = -1;
+
+        for (int r = row, c = col; r >= 0 && r < rows && c >= 0 && c < cols; r += rowDir, c += colDir) {
+            int cell = cells[r * cols + c];
+            if (cell == runSymbol && cell != EMPTY) {
+                runLength++;
+            } else {
+                if (runSymbol != EMPTY) {
+                    score += runScore(runSymbol, runLength, openBefore, cell == EMPTY);
+                }
+                openBefore = previous == EMPTY;
+                runSymbol = cell;
+                runLength = 1;
+            }
+            previous = cell;
+        }
+        if (runSymbol != EMPTY) {
+            score += runScore(runSymbol, runLength, openBefore, false);
+        }
+
+        long[] scores = lineScores[direction];
+        int index = lineIndex(direction, row, col);
+        long delta = score - scores[index];
+        scores[index] = score;
+        return delta;
+    }
+
+    private long runScore(int symbol, int length, boolean openBefore, boolean openAfter) {
+        long weight;
+        if (length >= winningCount) {
+            // Under exact-length rules an overline is dead rather than a win
+            weight = length == winningCount || overlineWins ? winWeight : 0;
+        } else {
+            weight = weights[length][(openBefore ? 1 : 0) + (openAfter ? 1 : 0)];
+        }
+        return symbol == X ? weight : -weight;
+    }
+
+    private static byte code(Cell cell) {
+        return (byte) (cell == Cell.X ? X : cell == Cell.O ? O : EMPTY);
+    }
+}
@@ -0,0 +1,169 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Model.Symmetry;
+import Util.MetricsRegistry;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// Remembers the move the AI chose for a position, keyed by the symmetry-canonical
+// board so rotations and reflections of a position share one entry. Moves are stored
+// in canonical orientation and mapped back on lookup.
+// The table is open-addressed and lock-free like TranspositionTable: a key lives in
+// a short probe window from its home slot, and each slot stores (key ^ data, data)
+// so a torn concurrent write fails the key check and reads as a miss. A full window
+// evicts with CLOCK: reference bits are cleared until an entry unused since the last
+// pass turns up.
+public class PositionCache {
+    private static final MetricsRegistry.Counter HITS = MetricsRegistry.getDefault()
+            .counter("amoba_position_cache_hits_total", "AI position cache hits");
+    private static final MetricsRegistry.Counter MISSES = MetricsRegistry.getDefault()
+            .counter("amoba_position_cache_misses_total", "AI position cache misses");
+    private static final MetricsRegistry.Counter EVICTIONS = MetricsRegistry.getDefault()
+            .counter("amoba_position_cache_evictions_total", "AI position cache evictions");
+    private static final long SIDE_TO_MOVE_KEY = 0x9E3779B97F4A7C15L;
+    // Stones on boards of different sizes can share Zobrist bits, so the size is keyed too
+    private static final long DIMENSION_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+    private static final int PROBE_LIMIT = 8;
+
+    private final long[] keys;
+    // Stored move index + 1, so 0 marks a slot that was never written
+    private final int[] moves;
+    private final boolean[] referenced;
+    private final int indexMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PositionCache(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid cache capacity");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.keys = new long[size];
+        this.moves = new int[size];
+        this.referenced = new boolean[size];
+        this.indexMask = size - 1;
+    }
+
+    // Cached move for symbol to play on board, in the board's orientation; null on a miss
+    public Position lookup(Board board, Cell symbol) {
+        Symmetry symmetry = Symmetry.canonical(board);
+        int move = get(key(board, symmetry, symbol));
+        if (move < 0) {
+            misses.increment();
+            MISSES.increment();
+            return null;
+        }
+        hits.increment();
+        HITS.increment();
+        Position canonical = Position.fromIndex(move, board.getCols());
+        return symmetry.inverse().apply(canonical, board.getRows(), board.getCols());
+    }
+
+    public void store(Board board, Cell symbol, Position move) {
+        Symmetry symmetry = Symmetry.canonical(board);
+        Position canonical = symmetry.apply(move, board.getRows(), board.getCols());
+        put(key(board, symmetry, symbol), canonical.toIndex(board.getCols()));
+    }
+
+    private static long key(Board board, Symmetry symmetry, Cell symbol) {
+        long key = board.getZobristKey(symmetry)
+                ^ ((board.getRows() * 128L + board.getCols()) * DIMENSION_MULTIPLIER);
+        return symbol == Cell.O ? key ^ SIDE_TO_MOVE_KEY : key;
+    }
+
+    private int get(long key) {
+        int home = (int) key & indexMask;
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (home + i) & indexMask;
+            int data = moves[slot];
+            if (data == 0) {
+                // Slots are only ever overwritten, never emptied, so the key is not further on
+                return -1;
+            }
+            if ((keys[slot] ^ data) == key) {
+                referenced[slot] = true;
+                return data - 1;
+            }
+        }
+        return -1;
+    }
+
+    private void put(long key, int move) {
+        int home = (int) key & indexMask;
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (home + i) & indexMask;
+            int existing = moves[slot];
+            if (existing == 0 || (keys[slot] ^ existing) == key) {
+                write(slot, key, move + 1);
+                return;
+            }
+        }
+
+        // Window full: the hand sweeps it from the home slot, giving referenced entries
+        // a second chance; after a full sweep every bit is clear and the home slot goes
+        int victim = home;
+        for (int i = 0; i < PROBE_LIMIT; i++) {
+            int slot = (home + i) & indexMask;
+            if (!referenced[slot]) {
+                victim = slot;
+                break;
+            }
+            referenced[slot] = false;
+        }
+        write(victim, key, move + 1);
+        evictions.increment();
+        EVICTIONS.increment();
+    }
+
+    private void write(int slot, long key, int data) {
+        keys[slot] = key ^ data;
+        moves[slot] = data;
+        referenced[slot] = true;
+    }
+
+    public int getCapacity() {
+        return moves.length;
+    }
+
+    // Walks the whole table; meant for diagnostics, not the move path
+    public int size() {
+        int size = 0;
+        for (int data : moves) {
+            if (data != 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long lookups = getHits() + getMisses();
+        return lookups == 0 ? 0 : (double) getHits() / lookups;
+    }
+
+    public void clear() {
+        Arrays.fill(moves, 0);
+        Arrays.fill(keys, 0L);
+        Arrays.fill(referenced, false);
+    }
+}
@@ -0,0 +1,24 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+
+import java.util.Random;
+
+public class RandomMoveStrategy implements MoveStrategy {
+    private final BoardService boardService;
+    private final Random random;
+
+    public RandomMoveStrategy(BoardService boardService) {
+        this.boardService = boardService;
+        this.random = new Random();
+    }
+
+    @Override
+    public Position selectMove(Board board, Cell symbol) {
+        int[] moves = new int[board.getRows() * board.getCols()];
+        int count = boardService.getValidMoves(board, moves);
+        return Position.fromIndex(moves[random.nextInt(count)], board.getCols());
+    }
+}
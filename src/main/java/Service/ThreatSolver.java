@@ -0,0 +1,356 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Util.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Threat-space search: proves forced wins using only forcing moves. A "four" leaves
+// one or more squares that win next move; a "three" leaves a square that would make
+// two of them. Fours are answered by the single block, threes by every move that can
+// stop the follow-up, so a proven line is a real forced win.
+public class ThreatSolver {
+    private static final Logger logger = LoggerFactory.getLogger(ThreatSolver.class);
+    private static final int[] LINE_ROW_DIRS = {0, 1, 1, 1};
+    private static final int[] LINE_COL_DIRS = {1, 0, 1, -1};
+    private static final int DEFAULT_VCF_DEPTH = 12;
+    private static final int DEFAULT_VCT_DEPTH = 4;
+    private static final long DEFAULT_TIME_LIMIT_MILLIS = 200;
+    // Nodes scan the whole frontier, so the clock is cheap to read by comparison
+    private static final int DEADLINE_CHECK_MASK = 15;
+    private static final int NO_MOVE = -1;
+    private static final MetricsRegistry.Counter NODES = MetricsRegistry.getDefault()
+            .counter("amoba_threat_nodes_total", "Threat-space search nodes");
+
+    private final BoardService boardService;
+    private final int vcfDepth;
+    private final int vctDepth;
+    private final long timeLimitMillis;
+
+    public ThreatSolver(BoardService boardService) {
+        this(boardService, DEFAULT_VCF_DEPTH, DEFAULT_VCT_DEPTH, DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    // Depths count attacker moves; a VCT depth of 0 searches continuous fours only.
+    // A three needs a follow-up move to win, so a VCT depth of 1 would only repeat
+    // the four search and is rejected
+    public ThreatSolver(BoardService boardService, int vcfDepth, int vctDepth, long timeLimitMillis) {
+        if (vcfDepth < 1 || vctDepth < 0 || vctDepth == 1) {
+            throw new IllegalArgumentException("Invalid threat search depth");
+        }
+        if (timeLimitMillis <= 0) {
+            throw new IllegalArgumentException("Time limit must be positive");
+        }
+        this.boardService = boardService;
+        this.vcfDepth = vcfDepth;
+        this.vctDepth = vctDepth;
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    public Position solve(Board board, Cell symbol) {
+        return solve(board, symbol, timeLimitMillis);
+    }
+
+    // Returns an immediate win, the block of an immediate loss, the first move of a
+    // forced win or a defence against the opponent's forced win; null when the
+    // position is quiet and the main search should decide
+    public Position solve(Board board, Cell symbol, long timeLimitMillis) {
+        if (board.isEmpty()) {
+            return null;
+        }
+        Search search = new Search(board.copy(), System.nanoTime() + timeLimitMillis * 1_000_000L);
+        int move = search.solve(symbol);
+        NODES.add(search.nodes);
+        logger.debug("Threat search finished: move {}, {} nodes", move, search.nodes);
+        return move == NO_MOVE ? null : Position.fromIndex(move, board.getCols());
+    }
+
+    private static Cell opponent(Cell symbol) {
+        return symbol == Cell.X ? Cell.O : Cell.X;
+    }
+
+    private final class Search {
+        private final Board board;
+        private final int rows;
+        private final int cols;
+        private final int reach;
+        private final long deadline;
+        private final int[] frontier;
+        private final int[] squares;
+        private final int[][] moveBuffers;
+        private final int[][] defenceBuffers;
+        // Generation stamps for de-duplicating defence candidates without clearing
+        private final int[] seen;
+        private final int[] pv;
+        private int pvLength;
+        private int stamp;
+        private long nodes;
+        private boolean aborted;
+
+        Search(Board board, long deadline) {
+            this.board = board;
+            this.rows = board.getRows();
+            this.cols = board.getCols();
+            this.reach = boardService.getWinningCount() - 1;
+            this.deadline = deadline;
+            int cells = rows * cols;
+            int plies = Math.max(vcfDepth, vctDepth) + 1;
+            this.frontier = new int[cells];
+            this.squares = new int[cells];
+            this.moveBuffers = new int[plies][cells];
+            this.defenceBuffers = new int[plies][cells];
+            this.seen = new int[cells];
+            this.pv = new int[plies];
+        }
+
+        int solve(Cell symbol) {
+            Cell other = opponent(symbol);
+            int win = findWin(symbol);
+            if (win != NO_MOVE) {
+                return win;
+            }
+            int loss = findWin(other);
+            if (loss != NO_MOVE) {
+                return loss;
+            }
+
+            if (attack(symbol, vcfDepth, false, 0)) {
+                return pv[0];
+            }
+            if (vctDepth > 0 && !aborted && attack(symbol, vctDepth, true, 0)) {
+                return pv[0];
+            }
+            if (!aborted && attack(other, vcfDepth, false, 0)) {
+                return findDefence(symbol);
+            }
+            return NO_MOVE;
+        }
+
+        // Tries the squares of the opponent's winning line; a move that also gives us
+        // a four is skipped, since the opponent's reply to it is not modelled here
+        private int findDefence(Cell symbol) {
+            Cell other = opponent(symbol);
+            int[] candidates = new int[pvLength];
+            System.arraycopy(pv, 0, candidates, 0, pvLength);
+
+            for (int move : candidates) {
+                if (aborted) {
+                    break;
+                }
+                play(move, symbol);
+                boolean counterThreat = findWin(symbol) != NO_MOVE;
+                boolean refuted = !counterThreat && !attack(other, vcfDepth, false, 0) && !aborted;
+                board.unmakeMove();
+                if (refuted) {
+                    return move;
+                }
+            }
+            return NO_MOVE;
+        }
+
+        private boolean attack(Cell attacker, int depth, boolean threes, int ply) {
+            if ((++nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+                aborted = true;
+            }
+            if (aborted) {
+                return false;
+            }
+
+            int win = findWin(attacker);
+            if (win != NO_MOVE) {
+                pv[ply] = win;
+                pvLength = ply + 1;
+                return true;
+            }
+            if (depth == 0) {
+                return false;
+            }
+
+            // With a win pending for the defender only fours keep the initiative, and a
+            // three needs one more move to finish it off
+            boolean allowThrees = threes && depth > 1 && findWin(opponent(attacker)) == NO_MOVE;
+            int[] moves = moveBuffers[ply];
+            int count = generateThreats(attacker, moves, allowThrees);
+
+            for (int i = 0; i < count; i++) {
+                int move = moves[i] & Integer.MAX_VALUE;
+                boolean four = moves[i] >= 0;
+                play(move, attacker);
+                boolean proven = four
+                        ? defendFour(attacker, move, depth, threes, ply)
+                        : defendThree(attacker, move, depth, ply);
+                board.unmakeMove();
+                if (proven) {
+                    pv[ply] = move;
+                    return true;
+                }
+                if (aborted) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private boolean defendFour(Cell attacker, int move, int depth, boolean threes, int ply) {
+            Cell defender = opponent(attacker);
+            if (findWin(defender) != NO_MOVE) {
+                return false;
+            }
+            // The attacker had no win before this move, so every threat runs through it
+            if (winsThrough(attacker, move / cols, move % cols, squares) >= 2) {
+                pv[ply + 1] = squares[0];
+                pvLength = ply + 2;
+                return true;
+            }
+
+            int block = squares[0];
+            play(block, defender);
+            boolean proven = attack(attacker, depth - 1, threes, ply + 1);
+            board.unmakeMove();
+            return proven;
+        }
+
+        private boolean defendThree(Cell attacker, int move, int depth, int ply) {
+            Cell defender = opponent(attacker);
+            if (findWin(defender) != NO_MOVE) {
+                return false;
+            }
+
+            // Any other reply loses to one of the open-four squares, so only these
+            // need to be refuted: the open-four squares, the winning squares they
+            // create, and defender moves that make a four of their own
+            int[] defences = defenceBuffers[ply];
+            int count = 0;
+            stamp++;
+            int points = threatPoints(attacker, move / cols, move % cols, defences);
+            for (int i = 0; i < points; i++) {
+                seen[defences[i]] = stamp;
+            }
+            count = points;
+            for (int i = 0; i < points; i++) {
+                int point = defences[i];
+                play(point, attacker);
+                int wins = winsThrough(attacker, point / cols, point % cols, squares);
+                board.unmakeMove();
+                for (int w = 0; w < wins; w++) {
+                    if (seen[squares[w]] != stamp) {
+                        seen[squares[w]] = stamp;
+                        defences[count++] = squares[w];
+                    }
+                }
+            }
+            int frontierCount = board.getFrontierCells(frontier);
+            for (int i = 0; i < frontierCount; i++) {
+                int cell = frontier[i];
+                if (seen[cell] == stamp) {
+                    continue;
+                }
+                play(cell, defender);
+                boolean four = winsThrough(defender, cell / cols, cell % cols, null) > 0;
+                board.unmakeMove();
+                if (four) {
+                    seen[cell] = stamp;
+                    defences[count++] = cell;
+                }
+            }
+
+            for (int i = 0; i < count; i++) {
+                play(defences[i], defender);
+                boolean proven = attack(attacker, depth - 1, true, ply + 1);
+                board.unmakeMove();
+                if (!proven) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Fours are stored as the cell index, threes with the sign bit set; double
+        // fours go first as they win outright
+        private int generateThreats(Cell attacker, int[] out, boolean threes) {
+            int frontierCount = board.getFrontierCells(frontier);
+            int doubles = 0;
+            int count = 0;
+            for (int i = 0; i < frontierCount; i++) {
+                int cell = frontier[i];
+                int row = cell / cols;
+                int col = cell % cols;
+                play(cell, attacker);
+                int wins = winsThrough(attacker, row, col, null);
+                boolean three = wins == 0 && threes && threatPoints(attacker, row, col, null) > 0;
+                board.unmakeMove();
+
+                if (wins >= 2) {
+                    out[count++] = out[doubles];
+                    out[doubles++] = cell;
+                } else if (wins == 1) {
+                    out[count++] = cell;
+                } else if (three) {
+                    out[count++] = cell | Integer.MIN_VALUE;
+                }
+            }
+            return count;
+        }
+
+        // Empty squares near (row, col) that would give the attacker two winning squares
+        private int threatPoints(Cell attacker, int row, int col, int[] out) {
+            int count = 0;
+            for (int d = 0; d < LINE_ROW_DIRS.length; d++) {
+                for (int k = -reach; k <= reach; k++) {
+                    int r = row + LINE_ROW_DIRS[d] * k;
+                    int c = col + LINE_COL_DIRS[d] * k;
+                    if (k == 0 || !board.isFrontier(r, c)) {
+                        continue;
+                    }
+                    play(r * cols + c, attacker);
+                    boolean openFour = winsThrough(attacker, r, c, null) >= 2;
+                    board.unmakeMove();
+                    if (openFour) {
+                        if (out == null) {
+                            return 1;
+                        }
+                        out[count++] = r * cols + c;
+                    }
+                }
+            }
+            return count;
+        }
+
+        // Winning squares on the four lines through (row, col); each square lies on
+        // exactly one of those lines, so none is counted twice
+        private int winsThrough(Cell symbol, int row, int col, int[] out) {
+            int count = 0;
+            for (int d = 0; d < LINE_ROW_DIRS.length; d++) {
+                for (int k = -reach; k <= reach; k++) {
+                    int r = row + LINE_ROW_DIRS[d] * k;
+                    int c = col + LINE_COL_DIRS[d] * k;
+                    if (k != 0 && board.isFrontier(r, c) && boardService.isWinningMove(board, r, c, symbol)) {
+                        if (out != null) {
+                            out[count] = r * cols + c;
+                        }
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        // Every winning square touches a stone, so scanning the frontier is enough
+        private int findWin(Cell symbol) {
+            int frontierCount = board.getFrontierCells(frontier);
+            for (int i = 0; i < frontierCount; i++) {
+                int cell = frontier[i];
+                if (boardService.isWinningMove(board, cell / cols, cell % cols, symbol)) {
+                    return cell;
+                }
+            }
+            return NO_MOVE;
+        }
+
+        private void play(int cell, Cell symbol) {
+            board.makeMove(cell / cols, cell % cols, symbol);
+        }
+    }
+}
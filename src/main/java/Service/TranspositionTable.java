@@ -0,0 +1,112 @@
+package Service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+    public static final int NO_MOVE = -1;
+
+    private static final long VALID_BIT = 1L << 63;
+    private static final int MOVE_SHIFT = 32;
+    private static final long MOVE_MASK = (1L << 20) - 1;
+    private static final int DEPTH_SHIFT = 52;
+    private static final long DEPTH_MASK = 0xFF;
+    private static final int FLAG_SHIFT = 60;
+    private static final long FLAG_MASK = 0x3;
+
+    // Each slot stores (key ^ data, data); a torn concurrent write fails the key check
+    private final long[] keys;
+    private final long[] entries;
+    private final int indexMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    public TranspositionTable(int requestedEntries) {
+        if (requestedEntries < 1 || requestedEntries > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid transposition table size");
+        }
+        int size = Integer.highestOneBit(requestedEntries);
+        if (size < requestedEntries) {
+            size <<= 1;
+        }
+        this.keys = new long[size];
+        this.entries = new long[size];
+        this.indexMask = size - 1;
+    }
+
+    public long probe(long key) {
+        int index = (int) key & indexMask;
+        long entry = entries[index];
+        long storedKey = keys[index] ^ entry;
+
+        if (entry != 0 && storedKey == key) {
+            hits.increment();
+            return entry;
+        }
+        if (entry != 0) {
+            collisions.increment();
+        }
+        misses.increment();
+        return 0L;
+    }
+
+    public void store(long key, int move, int score, int depth, int flag) {
+        int index = (int) key & indexMask;
+        long existing = entries[index];
+        if (existing != 0 && (keys[index] ^ existing) == key && depth < getDepth(existing)) {
+            return;
+        }
+
+        long entry = VALID_BIT
+                | ((long) flag & FLAG_MASK) << FLAG_SHIFT
+                | ((long) depth & DEPTH_MASK) << DEPTH_SHIFT
+                | ((long) (move + 1) & MOVE_MASK) << MOVE_SHIFT
+                | (score & 0xFFFFFFFFL);
+        keys[index] = key ^ entry;
+        entries[index] = entry;
+    }
+
+    public static int getMove(long entry) {
+        return (int) ((entry >>> MOVE_SHIFT) & MOVE_MASK) - 1;
+    }
+
+    public static int getScore(long entry) {
+        return (int) entry;
+    }
+
+    public static int getDepth(long entry) {
+        return (int) ((entry >>> DEPTH_SHIFT) & DEPTH_MASK);
+    }
+
+    public static int getFlag(long entry) {
+        return (int) ((entry >>> FLAG_SHIFT) & FLAG_MASK);
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(entries, 0L);
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+    }
+}
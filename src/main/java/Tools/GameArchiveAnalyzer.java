@@ -0,0 +1,354 @@
+package Tools;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameRules;
+import Model.GameState;
+import Model.Position;
+import Service.BoardService;
+import Util.FileHandler;
+import Util.MoveJournal;
+import ch.qos.logback.classic.Level;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Checks every archived game under a directory and reports outcomes by board size and
+// first move, game lengths and rule violations. Text and binary saves are checked as
+// final positions; move journals are replayed move by move, so only they carry the
+// first move. Files are walked lazily and a fixed number are in flight at a time, so
+// memory does not grow with the archive; each worker keeps its own tallies, merged once.
+// Usage: GameArchiveAnalyzer <directory> [threads] [winLength] [output]
+public class GameArchiveAnalyzer {
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: GameArchiveAnalyzer <directory> [threads] [winLength] [output]");
+            System.exit(2);
+        }
+        Path root = Paths.get(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int winLength = args.length > 2 ? Integer.parseInt(args[2]) : GameRules.DEFAULT.getWinLength();
+        String output = args.length > 3 ? args[3] : "target/archive-analysis.json";
+
+        // FileHandler logs every load at INFO
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(Level.WARN);
+
+        BoardService boardService = new BoardService(GameRules.builder().winLength(winLength).build());
+        List<Tally> tallies = Collections.synchronizedList(new ArrayList<>());
+        ThreadLocal<Tally> workerTally = ThreadLocal.withInitial(() -> {
+            Tally tally = new Tally();
+            tallies.add(tally);
+            return tally;
+        });
+
+        int slots = threads * IN_FLIGHT_PER_THREAD;
+        Semaphore inFlight = new Semaphore(slots);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                inFlight.acquire();
+                pool.execute(() -> {
+                    try {
+                        analyze(boardService, path, workerTally.get());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            // All permits back means every submitted file is done
+            inFlight.acquire(slots);
+        } finally {
+            pool.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Tally total = new Tally();
+        for (Tally tally : tallies) {
+            total.merge(tally);
+        }
+        Path outputPath = Paths.get(output).toAbsolutePath();
+        Files.createDirectories(outputPath.getParent());
+        writeJson(outputPath, total, threads, seconds);
+        total.print(threads, seconds);
+    }
+
+    private static void analyze(BoardService boardService, Path path, Tally tally) {
+        tally.files++;
+        try {
+            String filename = path.toString();
+            GameRecord record = MoveJournal.isJournal(filename)
+                    ? replayJournal(boardService, MoveJournal.read(filename))
+                    : checkSave(boardService, FileHandler.loadGame(filename));
+            tally.add(record);
+        } catch (IOException | RuntimeException e) {
+            // Anything the loaders cannot parse, including non-game files
+            tally.unreadable++;
+        }
+    }
+
+    // Replays the journal with the live rules: X moves first, sides alternate, every
+    // move must be legal and nothing may follow a win
+    private static GameRecord replayJournal(BoardService boardService, MoveJournal.Contents journal) {
+        Board board = new Board(journal.getRows(), journal.getCols(), boardService.getRules());
+        List<Position> moves = journal.getMoves();
+        List<Cell> symbols = journal.getSymbols();
+        int firstMove = moves.isEmpty() ? GameRecord.UNKNOWN : moves.get(0).toIndex(board.getCols());
+        Cell toMove = Cell.X;
+        Cell winner = Cell.EMPTY;
+
+        for (int i = 0; i < moves.size(); i++) {
+            Position move = moves.get(i);
+            Cell symbol = symbols.get(i);
+            if (winner != Cell.EMPTY) {
+                return GameRecord.invalid(board, "move after the game was won");
+            }
+            if (symbol != toMove) {
+                return GameRecord.invalid(board, "move out of turn");
+            }
+            if (!boardService.isValidMove(board, move)) {
+                return GameRecord.invalid(board, "illegal move");
+            }
+            board.makeMove(move, symbol);
+            if (boardService.checkWinner(board, move, symbol)) {
+                winner = symbol;
+            }
+            toMove = symbol == Cell.X ? Cell.O : Cell.X;
+        }
+
+        boolean finished = winner != Cell.EMPTY || boardService.isBoardFull(board);
+        return new GameRecord(board, moves.size(), winner, finished, firstMove, null);
+    }
+
+    // A save holds only the final position, so it is checked for consistency: stone
+    // counts, at most one line on the board, and winner and game-over flags that agree
+    private static GameRecord checkSave(BoardService boardService, GameState state) {
+        if (state == null) {
+            throw new IllegalStateException("Save file disappeared");
+        }
+        Board board = state.getBoard();
+        int x = board.getStoneCount(Cell.X);
+        int o = board.getStoneCount(Cell.O);
+        if (x != o && x != o + 1) {
+            return GameRecord.invalid(board, "stone counts do not alternate");
+        }
+
+        boolean xLine = boardService.checkWinner(board, Cell.X);
+        boolean oLine = boardService.checkWinner(board, Cell.O);
+        if (xLine && oLine) {
+            return GameRecord.invalid(board, "both sides have a winning line");
+        }
+        Cell winner = xLine ? Cell.X : oLine ? Cell.O : Cell.EMPTY;
+        Cell claimed = state.getWinner() == null ? Cell.EMPTY : state.getWinner().getSymbol();
+        if (winner != claimed) {
+            return GameRecord.invalid(board, "recorded winner does not match the board");
+        }
+        // The winner must have made the last move
+        if ((winner == Cell.X && x != o + 1) || (winner == Cell.O && x != o)) {
+            return GameRecord.invalid(board, "play continued after a win");
+        }
+        boolean finished = winner != Cell.EMPTY || boardService.isBoardFull(board);
+        if (state.isGameOver() != finished) {
+            return GameRecord.invalid(board, "game-over flag does not match the board");
+        }
+        return new GameRecord(board, x + o, winner, finished, GameRecord.UNKNOWN, null);
+    }
+
+    private static void writeJson(Path path, Tally tally, int threads, double seconds) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+            out.println("{");
+            out.printf(Locale.ROOT, "  \"files\": %d,%n", tally.files);
+            out.printf(Locale.ROOT, "  \"games\": %d,%n", tally.games);
+            out.printf(Locale.ROOT, "  \"invalid\": %d,%n", tally.invalid);
+            out.printf(Locale.ROOT, "  \"unreadable\": %d,%n", tally.unreadable);
+            out.printf(Locale.ROOT, "  \"threads\": %d,%n", threads);
+            out.printf(Locale.ROOT, "  \"seconds\": %.3f,%n", seconds);
+            out.printf(Locale.ROOT, "  \"filesPerSecond\": %.1f,%n", tally.files / seconds);
+            out.printf(Locale.ROOT, "  \"length\": {\"mean\": %.2f, \"p50\": %d, \"p90\": %d, \"max\": %d},%n",
+                    tally.meanLength(), tally.lengthPercentile(0.50), tally.lengthPercentile(0.90),
+                    tally.lengthPercentile(1.0));
+            out.println("  \"problems\": {");
+            writeEntries(out, tally.problems, Object::toString);
+            out.println("  },");
+            out.println("  \"bySize\": {");
+            writeEntries(out, tally.bySize, Outcomes::toJson);
+            out.println("  },");
+            out.println("  \"byFirstMove\": {");
+            writeEntries(out, tally.byFirstMove, Outcomes::toJson);
+            out.println("  }");
+            out.println("}");
+        }
+    }
+
+    private static <T> void writeEntries(PrintWriter out, Map<String, T> entries,
+                                         Function<T, String> format) {
+        int remaining = entries.size();
+        for (Map.Entry<String, T> entry : entries.entrySet()) {
+            out.printf(Locale.ROOT, "    \"%s\": %s%s%n", entry.getKey(), format.apply(entry.getValue()),
+                    --remaining > 0 ? "," : "");
+        }
+    }
+
+    private static final class GameRecord {
+        static final int UNKNOWN = -1;
+
+        private final int rows;
+        private final int cols;
+        private final int moves;
+        private final Cell winner;
+        private final boolean finished;
+        private final int firstMove;
+        private final String problem;
+
+        GameRecord(Board board, int moves, Cell winner, boolean finished, int firstMove, String problem) {
+            this.rows = board.getRows();
+            this.cols = board.getCols();
+            this.moves = moves;
+            this.winner = winner;
+            this.finished = finished;
+            this.firstMove = firstMove;
+            this.problem = problem;
+        }
+
+        static GameRecord invalid(Board board, String problem) {
+            return new GameRecord(board, 0, Cell.EMPTY, false, UNKNOWN, problem);
+        }
+
+        String sizeKey() {
+            return rows + "x" + cols;
+        }
+    }
+
+    // Win/draw counts for one group of games
+    private static final class Outcomes {
+        private long games;
+        private long xWins;
+        private long oWins;
+        private long draws;
+        private long unfinished;
+        private long moves;
+
+        void add(GameRecord record) {
+            games++;
+            moves += record.moves;
+            if (record.winner == Cell.X) {
+                xWins++;
+            } else if (record.winner == Cell.O) {
+                oWins++;
+            } else if (record.finished) {
+                draws++;
+            } else {
+                unfinished++;
+            }
+        }
+
+        void merge(Outcomes other) {
+            games += other.games;
+            xWins += other.xWins;
+            oWins += other.oWins;
+            draws += other.draws;
+            unfinished += other.unfinished;
+            moves += other.moves;
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT, "{\"games\": %d, \"xWins\": %d, \"oWins\": %d, \"draws\": %d, "
+                            + "\"unfinished\": %d, \"xWinRate\": %.4f, \"meanLength\": %.2f}",
+                    games, xWins, oWins, draws, unfinished, xWins / (double) games, moves / (double) games);
+        }
+    }
+
+    // Per-worker totals; single-threaded until merged
+    private static final class Tally {
+        private final long[] lengthCounts = new long[GameRules.MAX_BOARD_SIZE * GameRules.MAX_BOARD_SIZE + 1];
+        private final Map<String, Outcomes> bySize = new TreeMap<>();
+        private final Map<String, Outcomes> byFirstMove = new TreeMap<>();
+        private final Map<String, Long> problems = new TreeMap<>();
+        private long files;
+        private long games;
+        private long invalid;
+        private long unreadable;
+        private long totalMoves;
+
+        void add(GameRecord record) {
+            if (record.problem != null) {
+                invalid++;
+                problems.merge(record.problem, 1L, Long::sum);
+                return;
+            }
+            games++;
+            totalMoves += record.moves;
+            lengthCounts[record.moves]++;
+            bySize.computeIfAbsent(record.sizeKey(), key -> new Outcomes()).add(record);
+            if (record.firstMove != GameRecord.UNKNOWN) {
+                String key = record.sizeKey() + " " + Position.fromIndex(record.firstMove, record.cols);
+                byFirstMove.computeIfAbsent(key, k -> new Outcomes()).add(record);
+            }
+        }
+
+        void merge(Tally other) {
+            files += other.files;
+            games += other.games;
+            invalid += other.invalid;
+            unreadable += other.unreadable;
+            totalMoves += other.totalMoves;
+            for (int i = 0; i < lengthCounts.length; i++) {
+                lengthCounts[i] += other.lengthCounts[i];
+            }
+            other.bySize.forEach((key, outcomes) -> bySize.computeIfAbsent(key, k -> new Outcomes()).merge(outcomes));
+            other.byFirstMove.forEach((key, outcomes) ->
+                    byFirstMove.computeIfAbsent(key, k -> new Outcomes()).merge(outcomes));
+            other.problems.forEach((key, count) -> problems.merge(key, count, Long::sum));
+        }
+
+        double meanLength() {
+            return games == 0 ? 0 : totalMoves / (double) games;
+        }
+
+        // Nearest-rank percentile over the length histogram
+        int lengthPercentile(double fraction) {
+            long rank = Math.max(1, (long) Math.ceil(fraction * games));
+            long seen = 0;
+            for (int length = 0; length < lengthCounts.length; length++) {
+                seen += lengthCounts[length];
+                if (seen >= rank) {
+                    return length;
+                }
+            }
+            return 0;
+        }
+
+        void print(int threads, double seconds) {
+            System.out.printf(Locale.ROOT, "%d files in %.1f s on %d threads: %.0f files/s%n",
+                    files, seconds, threads, files / seconds);
+            System.out.printf(Locale.ROOT, "%d valid games, %d invalid, %d unreadable; length mean %.1f p50 %d p90 %d%n",
+                    games, invalid, unreadable, meanLength(), lengthPercentile(0.50), lengthPercentile(0.90));
+            problems.forEach((problem, count) -> System.out.printf("  invalid: %-45s %d%n", problem, count));
+            bySize.forEach((size, outcomes) -> System.out.printf(Locale.ROOT,
+                    "  %-8s games %6d  x wins %5.1f%%  o wins %5.1f%%  draws %d  unfinished %d%n",
+                    size, outcomes.games, 100.0 * outcomes.xWins / outcomes.games,
+                    100.0 * outcomes.oWins / outcomes.games, outcomes.draws, outcomes.unfinished));
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package Tools;
+
+import Model.Cell;
+import Model.GameState;
+import Model.Position;
+import Service.AIMoveScheduler;
+import Service.AIService;
+import Service.AlphaBetaStrategy;
+import Service.BoardService;
+import Service.GameSessionManager;
+import Service.MctsStrategy;
+import Service.MoveStrategy;
+import Service.PositionCache;
+import Service.RandomMoveStrategy;
+import Service.TranspositionTable;
+import ch.qos.logback.classic.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+// Serves games over TCP with a line protocol on a single selector thread. Requests and
+// replies are ASCII lines; every reply starts with OK or ERR:
+//   NEW <rows> <cols> [name]  -> OK <session>
+//   MOVE <session> <pos>      -> OK <ai move or -> <status>   (human move, then the AI reply)
+//   AI <session>              -> OK <ai move or -> <status>   (retry after ERR busy)
+//   STATE <session>           -> OK <rows> <cols> <to move> <status> <cells, row-major, . x o>
+//   RESIGN <session>          -> OK <status>
+//   CLOSE <session>           -> OK
+//   QUIT
+// Status is PLAYING, X_WINS, O_WINS or DRAW. AI replies are computed on the scheduler
+// and handed back to the selector thread; a connection has at most one request in
+// flight, so replies always come back in request order. Sessions created on a
+// connection are closed with it.
+// Usage: GameServer [port] [engine] [aiThreads] [maxQueued]
+//   engine: random | alphabeta[:millis] | mcts[:millis]
+public class GameServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(GameServer.class);
+    private static final int DEFAULT_PORT = 7878;
+    private static final int BUFFER_BYTES = 4096;
+    private static final int MAX_DEPTH = 16;
+    private static final int TABLE_ENTRIES = 1 << 20;
+    private static final int CACHE_ENTRIES = 1 << 16;
+    private static final long DEFAULT_BUDGET_MILLIS = 50;
+    private static final long IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+
+    private final GameSessionManager sessions;
+    private final long aiBudgetMillis;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    // AI completions run here on the selector thread, which owns all connection state
+    private final Queue<Runnable> completions = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    public GameServer(GameSessionManager sessions, InetSocketAddress address, long aiBudgetMillis)
+            throws IOException {
+        this.sessions = sessions;
+        this.aiBudgetMillis = aiBudgetMillis;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String engine = args.length > 1 ? args[1] : "alphabeta:" + DEFAULT_BUDGET_MILLIS;
+        int aiThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int maxQueued = args.length > 3 ? Integer.parseInt(args[3]) : 4096;
+
+        // Per-move INFO logging would dominate under load
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(Level.WARN);
+
+        String[] spec = engine.split(":");
+        long budgetMillis = spec.length > 1 ? Long.parseLong(spec[1]) : DEFAULT_BUDGET_MILLIS;
+        BoardService boardService = new BoardService();
+        AIService aiService = new AIService(boardService, createStrategy(boardService, spec[0], budgetMillis),
+                null, null, new PositionCache(CACHE_ENTRIES));
+
+        try (AIMoveScheduler scheduler = new AIMoveScheduler(aiService, aiThreads, maxQueued, true);
+             GameSessionManager sessions = new GameSessionManager(boardService, aiService, scheduler,
+                     Paths.get("saved-games/server"), IDLE_TIMEOUT_MILLIS).start();
+             GameServer server = new GameServer(sessions, new InetSocketAddress(port), budgetMillis)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "game-server-stop"));
+            System.out.printf("Serving games on port %d with %s, %d AI threads%n", server.getPort(), engine, aiThreads);
+            server.run();
+        }
+    }
+
+    private static MoveStrategy createStrategy(BoardService boardService, String engine, long budgetMillis) {
+        switch (engine) {
+            case "random":
+                return new RandomMoveStrategy(boardService);
+            case "alphabeta":
+                return new AlphaBetaStrategy(boardService, budgetMillis, MAX_DEPTH, new TranspositionTable(TABLE_ENTRIES));
+            case "mcts":
+                return new MctsStrategy(boardService, budgetMillis);
+            default:
+                throw new IllegalArgumentException("Unknown engine: " + engine);
+        }
+    }
+
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    public void run() throws IOException {
+        while (running) {
+            selector.select();
+            Runnable completion;
+            while ((completion = completions.poll()) != null) {
+                completion.run();
+            }
+
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                if (!key.isValid()) {
+                    continue;
+                }
+                if (key.isAcceptable()) {
+                    accept();
+                    continue;
+                }
+                Connection connection = (Connection) key.attachment();
+                try {
+                    if (key.isReadable()) {
+                        connection.read();
+                    }
+                    if (key.isValid() && key.isWritable()) {
+                        connection.flush();
+                    }
+                } catch (IOException e) {
+                    logger.debug("Connection failed", e);
+                    connection.close();
+                } catch (RuntimeException e) {
+                    // A bug in one request must not take the selector thread down with it
+                    connection.fail(e);
+                }
+            }
+        }
+
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof Connection) {
+                ((Connection) key.attachment()).close();
+            }
+        }
+        selector.close();
+        serverChannel.close();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        }
+    }
+
+    private static String status(GameState state) {
+        if (!state.isGameOver()) {
+            return "PLAYING";
+        }
+        if (state.getWinner() == null) {
+            return "DRAW";
+        }
+        return state.getWinner().getSymbol() == Cell.X ? "X_WINS" : "O_WINS";
+    }
+
+    private static String describe(GameState state) {
+        StringBuilder cells = new StringBuilder();
+        int rows = state.getBoard().getRows();
+        int cols = state.getBoard().getCols();
+        for (int i = 0; i < rows * cols; i++) {
+            Cell cell = state.getBoard().getCell(i);
+            cells.append(cell == Cell.EMPTY ? '.' : cell.getSymbol());
+        }
+        return rows + " " + cols + " " + state.getCurrentPlayer().getSymbol().getSymbol() + " "
+                + status(state) + " " + cells;
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocate(BUFFER_BYTES);
+        private final Queue<ByteBuffer> output = new ArrayDeque<>();
+        private final Set<String> ownedSessions = new HashSet<>();
+        private SelectionKey key;
+        private boolean busy;
+        private boolean closed;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read() throws IOException {
+            if (channel.read(input) < 0) {
+                close();
+                return;
+            }
+            processInput();
+        }
+
+        // Handles complete lines until one needs the AI; the rest wait in the buffer
+        private void processInput() throws IOException {
+            input.flip();
+            while (!busy && !closed) {
+                int end = -1;
+                for (int i = input.position(); i < input.limit(); i++) {
+                    if (input.get(i) == '\n') {
+                        end = i;
+                        break;
+                    }
+                }
+                if (end < 0) {
+                    break;
+                }
+                byte[] line = new byte[end - input.position()];
+                input.get(line);
+                input.get();
+                handle(new String(line, StandardCharsets.US_ASCII).trim());
+            }
+            input.compact();
+            if (!input.hasRemaining() && !busy) {
+                reply("ERR line too long");
+                close();
+                return;
+            }
+            updateInterest();
+        }
+
+        private void handle(String line) {
+            if (line.isEmpty()) {
+                return;
+            }
+            String[] parts = line.split(" +");
+            try {
+                switch (parts[0].toUpperCase(Locale.ROOT)) {
+                    case "NEW": {
+                        String name = parts.length > 3 ? parts[3] : "remote";
+                        String session = sessions.createSession(name, Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                        ownedSessions.add(session);
+                        reply("OK " + session);
+                        break;
+                    }
+                    case "MOVE": {
+                        if (!sessions.makeHumanMove(parts[1], Position.fromString(parts[2]))) {
+                            reply("ERR illegal move");
+                            break;
+                        }
+                        GameState state = sessions.getState(parts[1]);
+                        if (state.isGameOver()) {
+                            reply("OK - " + status(state));
+                        } else {
+                            requestAIMove(parts[1]);
+                        }
+                        break;
+                    }
+                    case "AI":
+                        requestAIMove(parts[1]);
+                        break;
+                    case "STATE":
+                        reply("OK " + describe(sessions.getState(parts[1])));
+                        break;
+                    case "RESIGN":
+                        if (!sessions.resign(parts[1])) {
+                            reply("ERR game is over");
+                        } else {
+                            reply("OK " + status(sessions.getState(parts[1])));
+                        }
+                        break;
+                    case "CLOSE":
+                        sessions.closeSession(parts[1]);
+                        ownedSessions.remove(parts[1]);
+                        reply("OK");
+                        break;
+                    case "QUIT":
+                        close();
+                        break;
+                    default:
+                        reply("ERR unknown command");
+                }
+            } catch (ArrayIndexOutOfBoundsException e) {
+                reply("ERR missing argument");
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                reply("ERR " + e.getMessage());
+            }
+        }
+
+        private void requestAIMove(String session) {
+            // Unknown or unloadable sessions throw here; the connection must stay readable then
+            CompletableFuture<Position> pending = sessions.makeAIMoveAsync(session, aiBudgetMillis);
+            busy = true;
+            pending.whenComplete((move, error) -> {
+                completions.add(() -> {
+                    try {
+                        finishAIMove(session, move, error);
+                    } catch (RuntimeException e) {
+                        fail(e);
+                    }
+                });
+                selector.wakeup();
+            });
+        }
+
+        private void finishAIMove(String session, Position move, Throwable error) {
+            if (closed) {
+                return;
+            }
+            busy = false;
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof RejectedExecutionException) {
+                reply("ERR busy");
+            } else if (cause instanceof CancellationException) {
+                reply("ERR cancelled");
+            } else if (cause != null) {
+                reply("ERR " + cause.getMessage());
+            } else {
+                try {
+                    reply("OK " + (move == null ? "-" : move.toString()) + " " + status(sessions.getState(session)));
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    reply("ERR " + e.getMessage());
+                }
+            }
+            try {
+                processInput();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void reply(String line) {
+            output.add(ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.US_ASCII)));
+            try {
+                flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        void flush() throws IOException {
+            while (!output.isEmpty()) {
+                ByteBuffer head = output.peek();
+                channel.write(head);
+                if (head.hasRemaining()) {
+                    break;
+                }
+                output.poll();
+            }
+            updateInterest();
+        }
+
+        // Reading pauses while a reply is pending or unsent, which bounds per-connection buffering
+        private void updateInterest() {
+            if (closed || !key.isValid()) {
+                return;
+            }
+            int ops = 0;
+            if (!output.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            } else if (!busy) {
+                ops |= SelectionKey.OP_READ;
+            }
+            key.interestOps(ops);
+        }
+
+        // Answers and drops only this connection after an unexpected failure
+        void fail(RuntimeException e) {
+            if (!closed) {
+                try {
+                    reply("ERR internal error");
+                } catch (RuntimeException replyFailure) {
+                    e.addSuppressed(replyFailure);
+                }
+            }
+            logger.warn("Request handling failed", e);
+            close();
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (String session : ownedSessions) {
+                sessions.closeSession(session);
+            }
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close connection", e);
+            }
+        }
+    }
+}
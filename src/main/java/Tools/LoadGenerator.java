@@ -0,0 +1,154 @@
+package Tools;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Service.BoardService;
+import Util.MetricsRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Simulates many concurrent players against a GameServer, one virtual thread and one
+// connection each. Players pick random legal moves from a local copy of the board and
+// start a new game whenever one ends. Reports sustained moves/sec and the round-trip
+// latency of MOVE requests, which includes the server's AI reply.
+// Usage: LoadGenerator [host] [port] [players] [seconds] [size]
+public class LoadGenerator {
+    private static final long BUSY_RETRY_MILLIS = 5;
+
+    private final String host;
+    private final int port;
+    private final int size;
+    private final BoardService boardService = new BoardService();
+    private final MetricsRegistry.Histogram roundTrips;
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder busyReplies = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private LoadGenerator(String host, int port, int size) {
+        this.host = host;
+        this.port = port;
+        this.size = size;
+        this.roundTrips = new MetricsRegistry().histogram("loadgen_move_round_trip_nanos", "MOVE round trips");
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7878;
+        int players = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        int size = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        LoadGenerator generator = new LoadGenerator(host, port, size);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < players; i++) {
+                int player = i;
+                executor.execute(() -> generator.play(player, deadline));
+            }
+        }
+        generator.print(players, (System.nanoTime() - start) / 1e9);
+    }
+
+    private void play(int player, long deadline) {
+        SplittableRandom random = new SplittableRandom(player);
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+            while (System.nanoTime() < deadline) {
+                playGame(in, out, "p" + player, random, deadline);
+            }
+            send(in, out, "QUIT", false);
+        } catch (IOException e) {
+            errors.increment();
+        }
+    }
+
+    private void playGame(BufferedReader in, Writer out, String name, SplittableRandom random, long deadline)
+            throws IOException {
+        String[] created = send(in, out, "NEW " + size + " " + size + " " + name, true).split(" ");
+        if (!created[0].equals("OK")) {
+            errors.increment();
+            return;
+        }
+        String session = created[1];
+        Board board = new Board(size, size);
+        int[] candidates = new int[size * size];
+
+        while (System.nanoTime() < deadline) {
+            int count = boardService.getValidMoves(board, candidates);
+            Position move = Position.fromIndex(candidates[random.nextInt(count)], size);
+            long sent = System.nanoTime();
+            String reply = send(in, out, "MOVE " + session + " " + move, true);
+            while (reply.equals("ERR busy")) {
+                busyReplies.increment();
+                sleep(BUSY_RETRY_MILLIS);
+                reply = send(in, out, "AI " + session, true);
+            }
+            roundTrips.recordSince(sent);
+
+            String[] parts = reply.split(" ");
+            if (!parts[0].equals("OK")) {
+                errors.increment();
+                break;
+            }
+            moves.increment();
+            board.makeMove(move, Cell.X);
+            if (!parts[1].equals("-")) {
+                board.makeMove(Position.fromString(parts[1]), Cell.O);
+            }
+            if (!parts[2].equals("PLAYING")) {
+                games.increment();
+                break;
+            }
+        }
+        send(in, out, "CLOSE " + session, true);
+    }
+
+    private static String send(BufferedReader in, Writer out, String request, boolean awaitReply)
+            throws IOException {
+        out.write(request);
+        out.write('\n');
+        out.flush();
+        if (!awaitReply) {
+            return null;
+        }
+        String reply = in.readLine();
+        if (reply == null) {
+            throw new IOException("Server closed the connection");
+        }
+        return reply;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void print(int players, double seconds) {
+        System.out.printf(Locale.ROOT, "%d players for %.1f s: %d moves (%.0f moves/s), %d games finished%n",
+                players, seconds, moves.sum(), moves.sum() / seconds, games.sum());
+        System.out.printf(Locale.ROOT, "MOVE round trip ms: p50 %.2f p90 %.2f p99 %.2f max %.2f%n",
+                roundTrips.getValueAtPercentile(0.50) / 1e6, roundTrips.getValueAtPercentile(0.90) / 1e6,
+                roundTrips.getValueAtPercentile(0.99) / 1e6, roundTrips.getMax() / 1e6);
+        System.out.printf("busy replies %d, errors %d%n", busyReplies.sum(), errors.sum());
+    }
+}
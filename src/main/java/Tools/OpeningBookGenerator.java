@@ -0,0 +1,87 @@
+package Tools;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameRules;
+import Model.Position;
+import Model.Symmetry;
+import Service.AIService;
+import Service.AlphaBetaStrategy;
+import Service.BoardService;
+import Service.ThreatSolver;
+import Service.TranspositionTable;
+import Util.OpeningBook;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Builds an opening book by self-play: every position reached in the first plies is
+// searched once, and games sometimes deviate from the book move to reach new lines.
+// Usage: OpeningBookGenerator [size] [plies] [games] [budgetMillis] [output]
+public class OpeningBookGenerator {
+    private static final long SEED = 20240301L;
+    private static final double EXPLORATION = 0.3;
+    private static final int MAX_DEPTH = 16;
+    private static final int TABLE_ENTRIES = 1 << 20;
+
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int plies = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        long budgetMillis = args.length > 3 ? Long.parseLong(args[3]) : 250;
+        String output = args.length > 4 ? args[4] : "opening-book/amoba-" + size + "x" + size + ".book";
+        if (plies < 1 || plies > 255) {
+            throw new IllegalArgumentException("Book depth must be between 1 and 255 plies");
+        }
+
+        GameRules rules = GameRules.DEFAULT;
+        BoardService boardService = new BoardService(rules);
+        AlphaBetaStrategy strategy = new AlphaBetaStrategy(boardService, budgetMillis, MAX_DEPTH,
+                new TranspositionTable(TABLE_ENTRIES), Runtime.getRuntime().availableProcessors());
+        AIService aiService = new AIService(boardService, strategy, new ThreatSolver(boardService));
+        Random random = new Random(SEED);
+        Map<Long, Integer> book = new HashMap<>();
+        long start = System.nanoTime();
+
+        try {
+            for (int game = 0; game < games; game++) {
+                Board board = new Board(size, size, rules);
+                Cell toMove = Cell.X;
+
+                for (int ply = 0; ply < plies && boardService.hasValidMoves(board); ply++) {
+                    Symmetry symmetry = Symmetry.canonical(board);
+                    long key = board.getZobristKey(symmetry);
+                    Integer stored = book.get(key);
+                    Position best;
+                    if (stored == null) {
+                        best = aiService.makeMove(board, toMove);
+                        Position canonical = symmetry.apply(best, size, size);
+                        book.put(key, canonical.getRow() * size + canonical.getCol());
+                    } else {
+                        best = symmetry.inverse().apply(new Position(stored / size, stored % size), size, size);
+                    }
+
+                    Position played = best;
+                    if (random.nextDouble() < EXPLORATION) {
+                        List<Position> moves = boardService.getValidMoves(board);
+                        played = moves.get(random.nextInt(moves.size()));
+                    }
+                    board.makeMove(played, toMove);
+                    if (boardService.checkWinner(board, played, toMove)) {
+                        break;
+                    }
+                    toMove = toMove == Cell.X ? Cell.O : Cell.X;
+                }
+            }
+        } finally {
+            strategy.shutdown();
+        }
+
+        OpeningBook.write(output, size, size, rules.getWinLength(), plies - 1, book);
+        System.out.printf("%d positions from %d games in %d s, written to %s%n", book.size(), games,
+                (System.nanoTime() - start) / 1_000_000_000L, output);
+    }
+}
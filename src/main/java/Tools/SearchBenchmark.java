@@ -0,0 +1,94 @@
+package Tools;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Service.AlphaBetaStrategy;
+import Service.BoardService;
+import Service.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SearchBenchmark {
+    private static final long POSITION_SEED = 20240101L;
+    private static final int OPENING_MOVES = 20;
+    private static final long TIME_BUDGET_MILLIS = 2000;
+    private static final long MEASUREMENT_MILLIS = 5000;
+    private static final int MAX_DEPTH = 64;
+    private static final int TABLE_ENTRIES = 1 << 20;
+
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        BoardService boardService = new BoardService();
+
+        System.out.println("size,threads,positions,nodes,millis,nodesPerSecond,speedup");
+        for (int size : new int[]{15, 25}) {
+            double baseline = 0;
+
+            for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+                AlphaBetaStrategy strategy = new AlphaBetaStrategy(boardService, TIME_BUDGET_MILLIS, MAX_DEPTH,
+                        new TranspositionTable(TABLE_ENTRIES), threads);
+                try {
+                    // Tactical positions often end the search early, so keep feeding
+                    // the same sequence of positions until the window is filled
+                    int positions = 0;
+                    long elapsed = 0;
+                    while (elapsed < MEASUREMENT_MILLIS * 1_000_000L) {
+                        Board position = buildPosition(boardService, size, positions++);
+                        strategy.getTranspositionTable().clear();
+                        long start = System.nanoTime();
+                        strategy.selectMove(position, Cell.X);
+                        elapsed += System.nanoTime() - start;
+                    }
+
+                    long nodes = strategy.getNodesSearched();
+                    double nodesPerSecond = nodes * 1e9 / elapsed;
+                    if (threads == 1) {
+                        baseline = nodesPerSecond;
+                    }
+                    System.out.printf("%dx%d,%d,%d,%d,%d,%.0f,%.2f%n", size, size, threads, positions, nodes,
+                            elapsed / 1_000_000, nodesPerSecond, nodesPerSecond / baseline);
+                } finally {
+                    strategy.shutdown();
+                }
+            }
+        }
+    }
+
+    private static int nextThreadCount(int threads, int maxThreads) {
+        if (threads == maxThreads) {
+            return maxThreads + 1;
+        }
+        return Math.min(threads * 2, maxThreads);
+    }
+
+    // Seeded pseudo-random quiet opening (no runs longer than WINNING_COUNT - 3) so every
+    // run searches the same position and no side has an immediate forced win
+    private static Board buildPosition(BoardService boardService, int size, int index) {
+        Board board = new Board(size, size);
+        Random random = new Random(POSITION_SEED + 31L * size + index);
+        Cell symbol = Cell.X;
+        int placed = 0;
+
+        while (placed < OPENING_MOVES) {
+            // Draws among the quiet moves only, so a crowded board fails instead of retrying forever
+            List<Position> moves = new ArrayList<>();
+            for (Position move : boardService.getValidMoves(board)) {
+                if (boardService.getLongestLine(board, move.getRow(), move.getCol(), symbol)
+                        < boardService.getWinningCount() - 2) {
+                    moves.add(move);
+                }
+            }
+            if (moves.isEmpty()) {
+                throw new IllegalStateException("No quiet move left for a " + size + "x" + size + " opening");
+            }
+            Position move = moves.get(random.nextInt(moves.size()));
+            board.setCell(move, symbol);
+            symbol = symbol == Cell.X ? Cell.O : Cell.X;
+            placed++;
+        }
+        return board;
+    }
+}
@@ -0,0 +1,297 @@
+package Tools;
+
+import Model.Board;
+import Model.Cell;
+import Model.Player;
+import Model.Position;
+import Service.AIService;
+import Service.AlphaBetaStrategy;
+import Service.BoardService;
+import Service.GameService;
+import Service.MctsStrategy;
+import Service.RandomMoveStrategy;
+import Service.ThreatSolver;
+import Service.TranspositionTable;
+import ch.qos.logback.classic.Level;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Plays AI-vs-AI games in parallel and reports results per engine, move latency
+// percentiles and throughput. Engines alternate colours so neither keeps the first move.
+// Engine specs: random, alphabeta[:millis], mcts[:millis], optionally suffixed with +threats.
+// Usage: SelfPlayTournament [games] [size] [engineA] [engineB] [threads] [outputPrefix]
+public class SelfPlayTournament {
+    private static final long DEFAULT_BUDGET_MILLIS = 100;
+    private static final int MAX_DEPTH = 16;
+    private static final int TABLE_ENTRIES = 1 << 16;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        String[] specs = {args.length > 2 ? args[2] : "alphabeta:50", args.length > 3 ? args[3] : "random"};
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        String outputPrefix = args.length > 5 ? args[5] : "target/selfplay/results";
+
+        // Per-move INFO logging would dominate the measurement
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+                .setLevel(Level.WARN);
+
+        BoardService boardService = new BoardService();
+        // Fail fast on a bad engine spec before any game starts
+        for (String spec : specs) {
+            createEngine(boardService, spec);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<GameResult>> futures = new ArrayList<>(games);
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            int game = i;
+            futures.add(pool.submit(() -> playGame(boardService, specs, size, game)));
+        }
+
+        List<GameResult> results = new ArrayList<>(games);
+        try {
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Game failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Summary summary = new Summary(specs, results, threads, seconds);
+        Path prefix = Paths.get(outputPrefix).toAbsolutePath();
+        Files.createDirectories(prefix.getParent());
+        writeCsv(Paths.get(prefix + ".csv"), results);
+        writeJson(Paths.get(prefix + ".json"), summary);
+        summary.print();
+    }
+
+    private static GameResult playGame(BoardService boardService, String[] specs, int size, int game) {
+        // Even games give engine A the first move, odd games give it to engine B
+        int xEngine = game % 2;
+        AIService[] engines = {createEngine(boardService, specs[xEngine]), createEngine(boardService, specs[1 - xEngine])};
+        LatencySamples[] latencies = {new LatencySamples(), new LatencySamples()};
+
+        GameService gameService = new GameService(boardService, null);
+        gameService.initializeGame(specs[xEngine], specs[1 - xEngine], size, size);
+        long start = System.nanoTime();
+        int moves = 0;
+        int forfeit = -1;
+
+        while (!gameService.isGameOver()) {
+            int side = gameService.getCurrentPlayer().getSymbol() == Cell.X ? 0 : 1;
+            Board board = gameService.getCurrentState().getBoard();
+
+            long moveStart = System.nanoTime();
+            Position move = engines[side].makeMove(board, side == 0 ? Cell.X : Cell.O);
+            latencies[side].add(System.nanoTime() - moveStart);
+
+            if (!gameService.makeMove(move)) {
+                forfeit = side;
+                break;
+            }
+            moves++;
+        }
+
+        int winner;
+        if (forfeit >= 0) {
+            winner = 1 - forfeit;
+        } else {
+            Player player = gameService.getWinner();
+            winner = player == null ? -1 : player.getSymbol() == Cell.X ? 0 : 1;
+        }
+        // Results are reported per engine (A = 0, B = 1), not per colour
+        int winnerEngine = winner < 0 ? -1 : winner == 0 ? xEngine : 1 - xEngine;
+        LatencySamples[] byEngine = xEngine == 0 ? latencies : new LatencySamples[]{latencies[1], latencies[0]};
+        return new GameResult(game, xEngine, winnerEngine, forfeit >= 0, moves,
+                (System.nanoTime() - start) / 1_000_000L, byEngine);
+    }
+
+    private static AIService createEngine(BoardService boardService, String spec) {
+        String[] parts = spec.split("\\+");
+        boolean threats = parts.length > 1 && parts[1].equals("threats");
+        String[] engine = parts[0].split(":");
+        long budgetMillis = engine.length > 1 ? Long.parseLong(engine[1]) : DEFAULT_BUDGET_MILLIS;
+        ThreatSolver threatSolver = threats ? new ThreatSolver(boardService) : null;
+
+        switch (engine[0]) {
+            case "random":
+                return new AIService(boardService, new RandomMoveStrategy(boardService), threatSolver);
+            case "alphabeta":
+                return new AIService(boardService, new AlphaBetaStrategy(boardService, budgetMillis, MAX_DEPTH,
+                        new TranspositionTable(TABLE_ENTRIES)), threatSolver);
+            case "mcts":
+                return new AIService(boardService, new MctsStrategy(boardService, budgetMillis), threatSolver);
+            default:
+                throw new IllegalArgumentException("Unknown engine: " + spec);
+        }
+    }
+
+    private static void writeCsv(Path path, List<GameResult> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+            out.println("game,xEngine,winner,forfeit,moves,millis");
+            for (GameResult result : results) {
+                out.printf("%d,%s,%s,%b,%d,%d%n", result.game, engineName(result.xEngine),
+                        result.winner < 0 ? "draw" : engineName(result.winner), result.forfeit,
+                        result.moves, result.millis);
+            }
+        }
+    }
+
+    private static void writeJson(Path path, Summary summary) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+            out.println("{");
+            out.printf(Locale.ROOT, "  \"games\": %d,%n", summary.games);
+            out.printf(Locale.ROOT, "  \"threads\": %d,%n", summary.threads);
+            out.printf(Locale.ROOT, "  \"seconds\": %.3f,%n", summary.seconds);
+            out.printf(Locale.ROOT, "  \"gamesPerSecond\": %.3f,%n", summary.games / summary.seconds);
+            out.printf(Locale.ROOT, "  \"movesPerSecond\": %.1f,%n", summary.moves / summary.seconds);
+            out.printf(Locale.ROOT, "  \"draws\": %d,%n", summary.draws);
+            out.println("  \"engines\": [");
+            for (int e = 0; e < 2; e++) {
+                LatencySamples samples = summary.latencies[e];
+                out.println("    {");
+                out.printf(Locale.ROOT, "      \"name\": \"%s\",%n", engineName(e));
+                out.printf(Locale.ROOT, "      \"spec\": \"%s\",%n", summary.specs[e]);
+                out.printf(Locale.ROOT, "      \"wins\": %d,%n", summary.wins[e]);
+                out.printf(Locale.ROOT, "      \"forfeits\": %d,%n", summary.forfeits[e]);
+                out.printf(Locale.ROOT, "      \"winRate\": %.4f,%n", summary.wins[e] / (double) summary.games);
+                out.printf(Locale.ROOT, "      \"moves\": %d,%n", samples.count);
+                out.printf(Locale.ROOT, "      \"latencyMillis\": {\"mean\": %.3f, \"p50\": %.3f, \"p90\": %.3f, "
+                                + "\"p99\": %.3f, \"max\": %.3f}%n",
+                        samples.meanMillis(), samples.percentileMillis(0.50), samples.percentileMillis(0.90),
+                        samples.percentileMillis(0.99), samples.percentileMillis(1.0));
+                out.println(e == 0 ? "    }," : "    }");
+            }
+            out.println("  ]");
+            out.println("}");
+        }
+    }
+
+    private static String engineName(int engine) {
+        return engine == 0 ? "A" : "B";
+    }
+
+    private static final class GameResult {
+        private final int game;
+        private final int xEngine;
+        private final int winner;
+        private final boolean forfeit;
+        private final int moves;
+        private final long millis;
+        private final LatencySamples[] latencies;
+
+        GameResult(int game, int xEngine, int winner, boolean forfeit, int moves, long millis,
+                   LatencySamples[] latencies) {
+            this.game = game;
+            this.xEngine = xEngine;
+            this.winner = winner;
+            this.forfeit = forfeit;
+            this.moves = moves;
+            this.millis = millis;
+            this.latencies = latencies;
+        }
+    }
+
+    private static final class Summary {
+        private final String[] specs;
+        private final int games;
+        private final int threads;
+        private final double seconds;
+        private final int[] wins = new int[2];
+        private final int[] forfeits = new int[2];
+        private final LatencySamples[] latencies = {new LatencySamples(), new LatencySamples()};
+        private int draws;
+        private long moves;
+
+        Summary(String[] specs, List<GameResult> results, int threads, double seconds) {
+            this.specs = specs;
+            this.games = results.size();
+            this.threads = threads;
+            this.seconds = seconds;
+            for (GameResult result : results) {
+                if (result.winner < 0) {
+                    draws++;
+                } else {
+                    wins[result.winner]++;
+                    if (result.forfeit) {
+                        forfeits[1 - result.winner]++;
+                    }
+                }
+                moves += result.moves;
+                latencies[0].addAll(result.latencies[0]);
+                latencies[1].addAll(result.latencies[1]);
+            }
+        }
+
+        void print() {
+            System.out.printf(Locale.ROOT, "%d games in %.1f s on %d threads: %.2f games/s, %.0f moves/s, %d draws%n",
+                    games, seconds, threads, games / seconds, moves / seconds, draws);
+            for (int e = 0; e < 2; e++) {
+                LatencySamples samples = latencies[e];
+                System.out.printf(Locale.ROOT, "%s %-24s wins %4d (%.1f%%)  latency ms p50 %.2f p90 %.2f p99 %.2f max %.2f%n",
+                        engineName(e), specs[e], wins[e], 100.0 * wins[e] / games, samples.percentileMillis(0.50),
+                        samples.percentileMillis(0.90), samples.percentileMillis(0.99), samples.percentileMillis(1.0));
+            }
+        }
+    }
+
+    // Growable array of nanosecond samples; not thread-safe, each game owns its own
+    private static final class LatencySamples {
+        private long[] values = new long[64];
+        private int count;
+        private boolean sorted;
+
+        void add(long nanos) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = nanos;
+            sorted = false;
+        }
+
+        void addAll(LatencySamples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        double meanMillis() {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += values[i];
+            }
+            return count == 0 ? 0 : total / 1e6 / count;
+        }
+
+        // Nearest-rank percentile
+        double percentileMillis(double fraction) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(values, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(fraction * count);
+            return values[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
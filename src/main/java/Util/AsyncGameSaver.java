@@ -0,0 +1,114 @@
+package Util;
+
+import Model.GameState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class AsyncGameSaver implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncGameSaver.class);
+
+    private final String filename;
+    private final Thread writer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    // Only the latest submitted state is kept; older pending states are dropped
+    private GameState pending;
+    private long submitted;
+    private long written;
+    private boolean closed;
+
+    public AsyncGameSaver(String filename) {
+        this.filename = filename;
+        this.writer = new Thread(this::writeLoop, "auto-save");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void submit(GameState gameState) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Auto-save has been closed");
+            }
+            pending = gameState;
+            submitted++;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        lock.lock();
+        try {
+            long target = submitted;
+            while (written < target) {
+                changed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            GameState gameState;
+            long sequence;
+
+            lock.lock();
+            try {
+                while (pending == null && !closed) {
+                    changed.awaitUninterruptibly();
+                }
+                if (pending == null) {
+                    return;
+                }
+                gameState = pending;
+                sequence = submitted;
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                FileHandler.saveGameAtomically(gameState, filename);
+            } catch (IOException | RuntimeException e) {
+                // The writer must outlive a bad save, or flush() would wait for it forever
+                logger.warn("Failed to auto-save game", e);
+            }
+
+            lock.lock();
+            try {
+                written = sequence;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -2,19 +2,49 @@ package Util;
 
 import Model.Board;
 import Model.Cell;
+import Model.GameRules;
 import Model.GameState;
 import Model.Player;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 public class FileHandler {
     private static final Logger logger = LoggerFactory.getLogger(FileHandler.class);
 
+    // Binary save layout (big-endian):
+    //   int magic "AMBG", byte version, short rows, short cols, byte flags,
+    //   short + UTF-8 human name, short + UTF-8 AI name,
+    //   cells row-major at 2 bits each, 4 per byte starting at the low bits.
+    // Flags: bit 0 game over, bit 1 AI to move, bits 2-3 winner cell code.
+    private static final int BINARY_MAGIC = 0x414D4247;
+    private static final byte BINARY_VERSION = 1;
+    private static final int FLAG_GAME_OVER = 1;
+    private static final int FLAG_AI_TO_MOVE = 1 << 1;
+    private static final int WINNER_SHIFT = 2;
+    // Magic, version, rows, cols and flags
+    private static final int BINARY_HEADER_BYTES = Integer.BYTES + 1 + 2 * Short.BYTES + 1;
+
+    private static final MetricsRegistry.Histogram SAVE_NANOS = MetricsRegistry.getDefault()
+            .histogram("amoba_save_nanos", "Time to write a save file");
+    private static final MetricsRegistry.Counter SAVE_BYTES = MetricsRegistry.getDefault()
+            .counter("amoba_save_bytes_total", "Bytes written to save files");
+    private static final MetricsRegistry.Histogram LOAD_NANOS = MetricsRegistry.getDefault()
+            .histogram("amoba_load_nanos", "Time to read a save file");
+    private static final MetricsRegistry.Counter LOAD_BYTES = MetricsRegistry.getDefault()
+            .counter("amoba_load_bytes_total", "Bytes read from save files");
+
     public static GameState loadGame(String filename) throws IOException {
         Path path = Paths.get(filename);
         if (!Files.exists(path)) {
@@ -22,6 +52,22 @@ public class FileHandler {
             return null;
         }
 
+        long started = System.nanoTime();
+        long size;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = channel.size();
+            if (size >= Integer.BYTES) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if (buffer.getInt(0) == BINARY_MAGIC) {
+                    GameState gameState = readBinary(buffer);
+                    LOAD_NANOS.recordSince(started);
+                    LOAD_BYTES.add(size);
+                    logger.info("Game loaded successfully from {}", filename);
+                    return gameState;
+                }
+            }
+        }
+
         try (BufferedReader reader = Files.newBufferedReader(path)) {
             // Read board dimensions
             String[] dims = reader.readLine().split(" ");
@@ -34,8 +80,10 @@ public class FileHandler {
             for (int i = 0; i < rows; i++) {
                 String line = reader.readLine();
                 for (int j = 0; j < cols; j++) {
-                    String symbol = line.substring(j * 2, j * 2 + 1);
-                    board.setCell(i, j, Cell.fromSymbol(symbol));
+                    Cell cell = Cell.fromChar(line.charAt(j * 2));
+                    if (cell != Cell.EMPTY) {
+                        board.setCell(i, j, cell);
+                    }
                 }
             }
 
@@ -51,6 +99,8 @@ public class FileHandler {
             Player winner = winnerName.equals("null") ? null :
                     winnerName.equals(humanName) ? humanPlayer : aiPlayer;
 
+            LOAD_NANOS.recordSince(started);
+            LOAD_BYTES.add(size);
             logger.info("Game loaded successfully from {}", filename);
 
             return GameState.builder()
@@ -66,6 +116,7 @@ public class FileHandler {
 
     public static void saveGame(GameState gameState, String filename) throws IOException {
         Path path = Paths.get(filename);
+        long started = System.nanoTime();
 
         try (BufferedWriter writer = Files.newBufferedWriter(path)) {
             Board board = gameState.getBoard();
@@ -76,11 +127,12 @@ public class FileHandler {
 
             // Write board state
             for (int i = 0; i < board.getRows(); i++) {
-                StringBuilder line = new StringBuilder();
                 for (int j = 0; j < board.getCols(); j++) {
-                    line.append(board.getCell(i, j).getSymbol()).append(" ");
+                    if (j > 0) {
+                        writer.write(' ');
+                    }
+                    writer.write(board.getCell(i, j).getSymbol());
                 }
-                writer.write(line.toString().trim());
                 writer.newLine();
             }
 
@@ -95,9 +147,161 @@ public class FileHandler {
             writer.newLine();
         }
 
+        SAVE_NANOS.recordSince(started);
+        SAVE_BYTES.add(Files.size(path));
+        logger.info("Game saved successfully to {}", filename);
+    }
+
+    // Writes to a sibling temp file, syncs it and renames it over the target so a
+    // crash mid-write never leaves a truncated save behind
+    public static void saveGameAtomically(GameState gameState, String filename) throws IOException {
+        Path target = Paths.get(filename).toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        saveGame(gameState, temp.toString());
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static void saveGameBinary(GameState gameState, String filename) throws IOException {
+        long started = System.nanoTime();
+        Board board = gameState.getBoard();
+        byte[] humanName = gameState.getHumanPlayer().getName().getBytes(StandardCharsets.UTF_8);
+        byte[] aiName = gameState.getAiPlayer().getName().getBytes(StandardCharsets.UTF_8);
+        int cells = board.getRows() * board.getCols();
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1 + 2 * Short.BYTES + 1
+                + Short.BYTES + humanName.length + Short.BYTES + aiName.length + (cells + 3) / 4);
+        buffer.putInt(BINARY_MAGIC);
+        buffer.put(BINARY_VERSION);
+        buffer.putShort((short) board.getRows());
+        buffer.putShort((short) board.getCols());
+
+        int flags = 0;
+        if (gameState.isGameOver()) {
+            flags |= FLAG_GAME_OVER;
+        }
+        if (gameState.getCurrentPlayer().getSymbol() == Cell.O) {
+            flags |= FLAG_AI_TO_MOVE;
+        }
+        if (gameState.getWinner() != null) {
+            flags |= cellCode(gameState.getWinner().getSymbol()) << WINNER_SHIFT;
+        }
+        buffer.put((byte) flags);
+        buffer.putShort((short) humanName.length).put(humanName);
+        buffer.putShort((short) aiName.length).put(aiName);
+
+        int packed = 0;
+        for (int i = 0; i < cells; i++) {
+            packed |= cellCode(board.getCell(i / board.getCols(), i % board.getCols())) << ((i & 3) * 2);
+            if ((i & 3) == 3 || i == cells - 1) {
+                buffer.put((byte) packed);
+                packed = 0;
+            }
+        }
+        buffer.flip();
+        int bytes = buffer.remaining();
+
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        SAVE_NANOS.recordSince(started);
+        SAVE_BYTES.add(bytes);
         logger.info("Game saved successfully to {}", filename);
     }
 
+    // Lengths are checked against what the file holds, so a truncated or corrupt save
+    // fails with an IOException like any other unreadable file
+    private static GameState readBinary(ByteBuffer buffer) throws IOException {
+        try {
+            return decodeBinary(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt save file", e);
+        }
+    }
+
+    private static GameState decodeBinary(ByteBuffer buffer) throws IOException {
+        requireBytes(buffer, BINARY_HEADER_BYTES, "header");
+        buffer.position(Integer.BYTES);
+        byte version = buffer.get();
+        if (version != BINARY_VERSION) {
+            throw new IOException("Unsupported save format version: " + version);
+        }
+
+        int rows = buffer.getShort();
+        int cols = buffer.getShort();
+        if (rows < GameRules.MIN_BOARD_SIZE || rows > GameRules.MAX_BOARD_SIZE
+                || cols < GameRules.MIN_BOARD_SIZE || cols > GameRules.MAX_BOARD_SIZE) {
+            throw new IOException("Invalid board dimensions in save file: " + rows + "x" + cols);
+        }
+        int flags = buffer.get();
+        Player humanPlayer = new Player(readString(buffer), Cell.X);
+        Player aiPlayer = new Player(readString(buffer), Cell.O);
+
+        Board board = new Board(rows, cols);
+        int cells = rows * cols;
+        requireBytes(buffer, (cells + 3) / 4, "board");
+        for (int i = 0; i < cells; i += 4) {
+            int packed = buffer.get() & 0xFF;
+            for (int k = 0; packed != 0 && k < 4; k++, packed >>>= 2) {
+                Cell cell = fromCellCode(packed & 3);
+                if (cell != Cell.EMPTY) {
+                    board.setCell((i + k) / cols, (i + k) % cols, cell);
+                }
+            }
+        }
+
+        Cell winnerSymbol = fromCellCode((flags >>> WINNER_SHIFT) & 3);
+        return GameState.builder()
+                .board(board)
+                .humanPlayer(humanPlayer)
+                .aiPlayer(aiPlayer)
+                .currentPlayer((flags & FLAG_AI_TO_MOVE) != 0 ? aiPlayer : humanPlayer)
+                .gameOver((flags & FLAG_GAME_OVER) != 0)
+                .winner(winnerSymbol == Cell.X ? humanPlayer : winnerSymbol == Cell.O ? aiPlayer : null)
+                .build();
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        requireBytes(buffer, Short.BYTES, "name length");
+        int length = buffer.getShort() & 0xFFFF;
+        requireBytes(buffer, length, "name");
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void requireBytes(ByteBuffer buffer, int bytes, String field) throws IOException {
+        if (buffer.remaining() < bytes) {
+            throw new IOException("Truncated save file: " + field + " needs " + bytes + " bytes, "
+                    + buffer.remaining() + " left");
+        }
+    }
+
+    private static int cellCode(Cell cell) {
+        return cell == Cell.X ? 1 : cell == Cell.O ? 2 : 0;
+    }
+
+    private static Cell fromCellCode(int code) throws IOException {
+        switch (code) {
+            case 0:
+                return Cell.EMPTY;
+            case 1:
+                return Cell.X;
+            case 2:
+                return Cell.O;
+            default:
+                throw new IOException("Corrupt cell code in save file: " + code);
+        }
+    }
+
     public static boolean saveFileExists(String filename) {
         return Files.exists(Paths.get(filename));
     }
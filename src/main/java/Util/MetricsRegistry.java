@@ -0,0 +1,207 @@
+package Util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide counters and histograms. Metrics are looked up once, usually into a
+// static field, so recording is a plain LongAdder or array update with no map access.
+public final class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+    private static final double[] DUMP_PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] DUMP_LABELS = {"p50", "p90", "p99", "p999"};
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    public Counter counter(String name, String help) {
+        return counters.computeIfAbsent(name, key -> new Counter(help));
+    }
+
+    public Histogram histogram(String name, String help) {
+        return histograms.computeIfAbsent(name, key -> new Histogram(help));
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"counters\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            json.append(separator).append("    \"").append(entry.getKey()).append("\": ")
+                    .append(entry.getValue().sum());
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"histograms\": {");
+        separator = "\n";
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            json.append(separator).append("    \"").append(entry.getKey()).append("\": {")
+                    .append("\"count\": ").append(histogram.getCount())
+                    .append(", \"sum\": ").append(histogram.getSum())
+                    .append(", \"max\": ").append(histogram.getMax());
+            for (int i = 0; i < DUMP_PERCENTILES.length; i++) {
+                json.append(", \"").append(DUMP_LABELS[i]).append("\": ")
+                        .append(histogram.getValueAtPercentile(DUMP_PERCENTILES[i]));
+            }
+            json.append('}');
+            separator = ",\n";
+        }
+        return json.append("\n  }\n}\n").toString();
+    }
+
+    // Prometheus text exposition format; histograms are written as summaries
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            String name = entry.getKey();
+            text.append("# HELP ").append(name).append(' ').append(entry.getValue().help).append('\n')
+                    .append("# TYPE ").append(name).append(" counter\n")
+                    .append(name).append(' ').append(entry.getValue().sum()).append('\n');
+        }
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            String name = entry.getKey();
+            Histogram histogram = entry.getValue();
+            text.append("# HELP ").append(name).append(' ').append(histogram.help).append('\n')
+                    .append("# TYPE ").append(name).append(" summary\n");
+            for (double percentile : DUMP_PERCENTILES) {
+                text.append(name).append("{quantile=\"").append(percentile).append("\"} ")
+                        .append(histogram.getValueAtPercentile(percentile)).append('\n');
+            }
+            text.append(name).append("_sum ").append(histogram.getSum()).append('\n')
+                    .append(name).append("_count ").append(histogram.getCount()).append('\n');
+        }
+        return text.toString();
+    }
+
+    public void writeJson(Path path) throws IOException {
+        write(path, toJson());
+    }
+
+    public void writePrometheus(Path path) throws IOException {
+        write(path, toPrometheus());
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Path target = path.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, content);
+    }
+
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+        private final String help;
+
+        private Counter(String help) {
+            this.help = help;
+        }
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        public long sum() {
+            return value.sum();
+        }
+    }
+
+    // Log-linear buckets in the style of HdrHistogram: each power of two is split into
+    // 2^SUB_BUCKET_BITS equal buckets, so any recorded value is reported to within
+    // 1/8 of itself while the whole long range fits in a fixed array of BUCKETS slots
+    // (496 with three sub-bucket bits)
+    public static final class Histogram {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final String help;
+
+        private Histogram(String help) {
+            this.help = help;
+        }
+
+        public void record(long value) {
+            long clamped = Math.max(0, value);
+            buckets.incrementAndGet(bucketIndex(clamped));
+            count.increment();
+            sum.add(clamped);
+            max.accumulate(clamped);
+        }
+
+        // Convenience for timing: records System.nanoTime() - startNanos
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getSum() {
+            return sum.sum();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        // Upper bound of the bucket holding the given fraction of recorded values
+        public long getValueAtPercentile(double fraction) {
+            long total = 0;
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = buckets.get(i);
+                total += snapshot[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(fraction * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        private static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long subBucket = index % SUB_BUCKETS;
+            long width = 1L << (exponent - SUB_BUCKET_BITS);
+            return (1L << exponent) + (subBucket + 1) * width - 1;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package Util;
+
+import Model.Cell;
+import Model.GameRules;
+import Model.Position;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class MoveJournal implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MoveJournal.class);
+
+    // Journal layout (big-endian):
+    //   int magic "AMBJ", byte version, short rows, short cols, short + UTF-8 human name,
+    //   then one 3-byte record per move: byte cell code (1 = x, 2 = o), unsigned short row * cols + col.
+    // A torn record at the end of the file is ignored on recovery and overwritten by the next append.
+    private static final int JOURNAL_MAGIC = 0x414D424A;
+    private static final byte JOURNAL_VERSION = 1;
+    private static final int RECORD_BYTES = 3;
+    // Magic, version, rows, cols and name length
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + 3 * Short.BYTES;
+
+    private final FileChannel channel;
+    private final int cols;
+    private final int checkpointInterval;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private int sinceCheckpoint;
+
+    private MoveJournal(FileChannel channel, int cols, int checkpointInterval) {
+        this.channel = channel;
+        this.cols = cols;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    // The header goes to a sibling temp file that is synced and renamed over the target,
+    // so a crash while starting a journal leaves either the old journal or a complete header
+    public static MoveJournal create(String filename, int rows, int cols, String humanName,
+                                     int checkpointInterval) throws IOException {
+        Path path = Paths.get(filename).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        byte[] name = humanName.getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + name.length);
+        header.putInt(JOURNAL_MAGIC)
+                .put(JOURNAL_VERSION)
+                .putShort((short) rows)
+                .putShort((short) cols)
+                .putShort((short) name.length)
+                .put(name)
+                .flip();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        logger.info("Started move journal {}", filename);
+        return new MoveJournal(channel, cols, checkpointInterval);
+    }
+
+    // Reopens a recovered journal, dropping any records past the moves that were replayed
+    public static MoveJournal openForAppend(String filename, Contents contents, int keptMoves,
+                                            int checkpointInterval) throws IOException {
+        long length = contents.headerLength + (long) keptMoves * RECORD_BYTES;
+        FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.WRITE);
+        channel.truncate(length);
+        channel.position(length);
+        return new MoveJournal(channel, contents.cols, checkpointInterval);
+    }
+
+    public void append(Position position, Cell symbol) throws IOException {
+        record.clear();
+        record.put((byte) (symbol == Cell.X ? 1 : 2))
+                .putShort((short) (position.getRow() * cols + position.getCol()))
+                .flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+
+        if (++sinceCheckpoint >= checkpointInterval) {
+            checkpoint();
+        }
+    }
+
+    public void checkpoint() throws IOException {
+        channel.force(false);
+        sinceCheckpoint = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            checkpoint();
+            channel.close();
+        }
+    }
+
+    // Checks the magic number only, so archives can tell journals from save files cheaply
+    public static boolean isJournal(String filename) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining()) {
+                if (channel.read(magic) < 0) {
+                    return false;
+                }
+            }
+            return magic.getInt(0) == JOURNAL_MAGIC;
+        }
+    }
+
+    public static Contents read(String filename) throws IOException {
+        Path path = Paths.get(filename);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        try {
+            return decode(buffer, filename);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt move journal: " + filename, e);
+        }
+    }
+
+    // Only the header must be intact; a torn record at the end is dropped as before
+    private static Contents decode(ByteBuffer buffer, String filename) throws IOException {
+        if (buffer.remaining() < Integer.BYTES + 1 || buffer.getInt() != JOURNAL_MAGIC) {
+            throw new IOException("Not a move journal: " + filename);
+        }
+        byte version = buffer.get();
+        if (version != JOURNAL_VERSION) {
+            throw new IOException("Unsupported journal version: " + version);
+        }
+        if (buffer.remaining() < HEADER_BYTES - Integer.BYTES - 1) {
+            throw new IOException("Truncated journal header: " + filename);
+        }
+
+        int rows = buffer.getShort();
+        int cols = buffer.getShort();
+        if (rows < GameRules.MIN_BOARD_SIZE || rows > GameRules.MAX_BOARD_SIZE
+                || cols < GameRules.MIN_BOARD_SIZE || cols > GameRules.MAX_BOARD_SIZE) {
+            throw new IOException("Invalid board dimensions in journal: " + rows + "x" + cols);
+        }
+        int nameLength = buffer.getShort() & 0xFFFF;
+        if (nameLength == 0 || buffer.remaining() < nameLength) {
+            throw new IOException("Truncated journal header: " + filename);
+        }
+        byte[] name = new byte[nameLength];
+        buffer.get(name);
+        int headerLength = buffer.position();
+
+        List<Position> moves = new ArrayList<>();
+        List<Cell> symbols = new ArrayList<>();
+        while (buffer.remaining() >= RECORD_BYTES) {
+            byte code = buffer.get();
+            int cell = buffer.getShort() & 0xFFFF;
+            if ((code != 1 && code != 2) || cell >= rows * cols) {
+                buffer.position(buffer.position() - RECORD_BYTES);
+                logger.warn("Corrupt record in journal {} after {} moves", filename, moves.size());
+                break;
+            }
+            symbols.add(code == 1 ? Cell.X : Cell.O);
+            moves.add(Position.fromIndex(cell, cols));
+        }
+
+        return new Contents(rows, cols, new String(name, StandardCharsets.UTF_8), moves, symbols, headerLength);
+    }
+
+    public static final class Contents {
+        private final int rows;
+        private final int cols;
+        private final String humanName;
+        private final List<Position> moves;
+        private final List<Cell> symbols;
+        private final int headerLength;
+
+        private Contents(int rows, int cols, String humanName, List<Position> moves, List<Cell> symbols,
+                         int headerLength) {
+            this.rows = rows;
+            this.cols = cols;
+            this.humanName = humanName;
+            this.moves = Collections.unmodifiableList(moves);
+            this.symbols = Collections.unmodifiableList(symbols);
+            this.headerLength = headerLength;
+        }
+
+        public int getRows() { return rows; }
+        public int getCols() { return cols; }
+        public String getHumanName() { return humanName; }
+        public List<Position> getMoves() { return moves; }
+        public List<Cell> getSymbols() { return symbols; }
+    }
+}
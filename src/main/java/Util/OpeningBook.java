@@ -0,0 +1,158 @@
+package Util;
+
+import Model.Board;
+import Model.Position;
+import Model.Symmetry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class OpeningBook {
+    private static final Logger logger = LoggerFactory.getLogger(OpeningBook.class);
+
+    // Book layout (big-endian):
+    //   int magic "AMBO", byte version, short rows, short cols, byte win length, byte max ply,
+    //   int entry count, then entries sorted by key: long canonical key, unsigned short move.
+    // Keys and moves are in the canonical orientation chosen by Symmetry.canonical.
+    private static final int BOOK_MAGIC = 0x414D424F;
+    private static final byte BOOK_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + 2 * Short.BYTES + 2 + Integer.BYTES;
+    private static final int ENTRY_BYTES = Long.BYTES + Short.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final int rows;
+    private final int cols;
+    private final int winLength;
+    private final int maxPly;
+    private final int size;
+
+    private OpeningBook(MappedByteBuffer buffer, int rows, int cols, int winLength, int maxPly, int size) {
+        this.buffer = buffer;
+        this.rows = rows;
+        this.cols = cols;
+        this.winLength = winLength;
+        this.maxPly = maxPly;
+        this.size = size;
+    }
+
+    public static OpeningBook open(String filename) throws IOException {
+        Path path = Paths.get(filename);
+        if (!Files.exists(path)) {
+            logger.warn("Opening book not found: {}", filename);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) {
+                throw new IOException("Opening book is truncated: " + filename);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != BOOK_MAGIC) {
+                throw new IOException("Not an opening book: " + filename);
+            }
+            byte version = buffer.get(Integer.BYTES);
+            if (version != BOOK_VERSION) {
+                throw new IOException("Unsupported opening book version: " + version);
+            }
+            int rows = buffer.getShort(Integer.BYTES + 1);
+            int cols = buffer.getShort(Integer.BYTES + 1 + Short.BYTES);
+            int winLength = buffer.get(Integer.BYTES + 1 + 2 * Short.BYTES);
+            int maxPly = buffer.get(Integer.BYTES + 2 + 2 * Short.BYTES) & 0xFF;
+            int size = buffer.getInt(Integer.BYTES + 3 + 2 * Short.BYTES);
+            if (HEADER_BYTES + (long) size * ENTRY_BYTES > length) {
+                throw new IOException("Opening book is truncated: " + filename);
+            }
+
+            logger.info("Opening book loaded from {}: {} positions", filename, size);
+            return new OpeningBook(buffer, rows, cols, winLength, maxPly, size);
+        }
+    }
+
+    // Entries map canonical keys to cell indices (row * cols + col) in canonical orientation
+    public static void write(String filename, int rows, int cols, int winLength, int maxPly,
+                             Map<Long, Integer> entries) throws IOException {
+        // Signed order, matching the binary search in lookup
+        TreeMap<Long, Integer> sorted = new TreeMap<>(entries);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + sorted.size() * ENTRY_BYTES);
+        buffer.putInt(BOOK_MAGIC)
+                .put(BOOK_VERSION)
+                .putShort((short) rows)
+                .putShort((short) cols)
+                .put((byte) winLength)
+                .put((byte) maxPly)
+                .putInt(sorted.size());
+        for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+            buffer.putLong(entry.getKey()).putShort(entry.getValue().shortValue());
+        }
+        buffer.flip();
+
+        Path path = Paths.get(filename).toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        logger.info("Opening book written to {}: {} positions", filename, sorted.size());
+    }
+
+    // Book move for the board, mapped back to its orientation; null when out of book
+    public Position lookup(Board board) {
+        int stones = rows * cols - board.getEmptyCount();
+        if (board.getRows() != rows || board.getCols() != cols || stones > maxPly) {
+            return null;
+        }
+
+        Symmetry symmetry = Symmetry.canonical(board);
+        long key = board.getZobristKey(symmetry);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = buffer.getLong(HEADER_BYTES + mid * ENTRY_BYTES);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                int move = buffer.getShort(HEADER_BYTES + mid * ENTRY_BYTES + Long.BYTES) & 0xFFFF;
+                Position canonical = Position.fromIndex(move, cols);
+                return symmetry.inverse().apply(canonical, rows, cols);
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getMaxPly() {
+        return maxPly;
+    }
+}
@@ -1,5 +1,6 @@
 package Util;
 
+import Model.GameRules;
 import Model.Position;
 
 public class ValidationUtil {
@@ -20,7 +21,11 @@ public class ValidationUtil {
     }
 
     public static boolean isValidDimension(int rows, int cols) {
-        return rows >= 5 && rows <= 25 && cols >= 5 && cols <= 25 && cols <= rows;
+        return isValidDimension(rows, cols, GameRules.DEFAULT);
+    }
+
+    public static boolean isValidDimension(int rows, int cols, GameRules rules) {
+        return rules.isValidDimension(rows, cols);
     }
 
     public static boolean isYesNoInput(String input) {
@@ -1,30 +1,74 @@
 package com.example.helloworld;
 
-import Model.GameState;
+import Model.Board;
+import Model.Cell;
+import Model.GameRules;
 import Model.Position;
+import Service.AIMoveScheduler;
 import Service.AIService;
+import Service.AlphaBetaStrategy;
 import Service.BoardService;
 import Service.GameService;
-import Util.FileHandler;
+import Service.PositionCache;
+import Service.ThreatSolver;
+import Service.TranspositionTable;
+import Util.AsyncGameSaver;
+import Util.MetricsRegistry;
+import Util.MoveJournal;
+import Util.OpeningBook;
 import Util.ValidationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
 public class AmobaGame {
     private static final Logger logger = LoggerFactory.getLogger(AmobaGame.class);
     private static final String SAVE_FILE = "saved-games/current_game.txt";
+    private static final String JOURNAL_FILE = "saved-games/current_game.journal";
+    private static final String OPENING_BOOK_FILE = "opening-book/amoba-10x10.book";
+    private static final String METRICS_JSON_FILE = "metrics/amoba-metrics.json";
+    private static final String METRICS_PROMETHEUS_FILE = "metrics/amoba-metrics.prom";
+    private static final int CHECKPOINT_INTERVAL = 10;
+    private static final long AI_TIME_BUDGET_MILLIS = 1000;
+    private static final int AI_MAX_DEPTH = 8;
+    private static final int AI_TABLE_ENTRIES = 1 << 20;
+    private static final int AI_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int AI_MAX_QUEUED = 4;
+    private static final int AI_CACHE_ENTRIES = 1 << 16;
+    private static final GameRules RULES = GameRules.DEFAULT;
 
     private final GameService gameService;
+    private final AIMoveScheduler aiScheduler;
+    private final AsyncGameSaver autoSaver;
     private final Scanner scanner;
+    private MoveJournal journal;
+    private int movesSinceSnapshot;
 
     public AmobaGame() {
-        BoardService boardService = new BoardService();
-        AIService aiService = new AIService(boardService);
-        this.gameService = new GameService(boardService, aiService);
+        BoardService boardService = new BoardService(RULES);
+        AIService aiService = new AIService(boardService,
+                new AlphaBetaStrategy(boardService, AI_TIME_BUDGET_MILLIS, AI_MAX_DEPTH,
+                        new TranspositionTable(AI_TABLE_ENTRIES), AI_THREADS),
+                new ThreatSolver(boardService), loadOpeningBook(), new PositionCache(AI_CACHE_ENTRIES));
+        this.aiScheduler = new AIMoveScheduler(aiService, 1, AI_MAX_QUEUED, true);
+        this.gameService = new GameService(boardService, aiService, aiScheduler);
+        this.autoSaver = new AsyncGameSaver(SAVE_FILE);
         this.scanner = new Scanner(System.in);
+        // System.exit on quit runs shutdown hooks, so the last state still reaches disk
+        Runtime.getRuntime().addShutdownHook(new Thread(autoSaver::close, "auto-save-flush"));
+    }
+
+    // The game runs fine without a book, it just thinks longer in the opening
+    private static OpeningBook loadOpeningBook() {
+        try {
+            return OpeningBook.open(OPENING_BOOK_FILE);
+        } catch (IOException e) {
+            logger.warn("Could not load opening book {}", OPENING_BOOK_FILE, e);
+            return null;
+        }
     }
 
     public void start() {
@@ -32,20 +76,20 @@ public class AmobaGame {
         System.out.println("=== Amőba Játék ===");
 
         try {
-            FileHandler FileHandler = new FileHandler();
-            if (FileHandler.saveFileExists(SAVE_FILE)) {
+            boolean resumed = false;
+            MoveJournal.Contents saved = readJournal();
+            if (saved != null) {
                 System.out.print("Szeretné betölteni a mentett játékot? (y/n): ");
                 String loadChoice = scanner.nextLine().trim();
 
                 if (loadChoice.equalsIgnoreCase("y")) {
-                    GameState savedState = FileHandler.loadGame(SAVE_FILE);
-                    if (savedState != null) {
-                        System.out.println("A mentett játék betöltése a második fázisban lesz implementálva.");
-                    }
+                    resumed = resumeGame(saved);
                 }
             }
 
-            initializeNewGame();
+            if (!resumed) {
+                initializeNewGame();
+            }
 
             gameLoop();
 
@@ -53,10 +97,54 @@ public class AmobaGame {
             logger.error("Error during game execution", e);
             System.out.println("Hiba történt a játék során: " + e.getMessage());
         } finally {
+            closeJournal();
+            autoSaver.close();
+            aiScheduler.close();
             scanner.close();
         }
     }
 
+    // A journal that cannot be read counts as no saved game; the next game's journal replaces it
+    private MoveJournal.Contents readJournal() {
+        try {
+            return MoveJournal.read(JOURNAL_FILE);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable move journal {}", JOURNAL_FILE, e);
+            return null;
+        }
+    }
+
+    private boolean resumeGame(MoveJournal.Contents saved) throws IOException {
+        int applied;
+        try {
+            applied = gameService.replayGame(saved.getHumanName(), saved.getRows(), saved.getCols(),
+                    saved.getMoves(), saved.getSymbols());
+        } catch (IllegalArgumentException e) {
+            // Dimensions this variant does not allow
+            logger.warn("Cannot replay move journal {}", JOURNAL_FILE, e);
+            System.out.println("A mentett játék nem tölthető be.");
+            return false;
+        }
+        if (gameService.isGameOver()) {
+            System.out.println("A mentett játék már véget ért.");
+            return false;
+        }
+
+        journal = MoveJournal.openForAppend(JOURNAL_FILE, saved, applied, CHECKPOINT_INTERVAL);
+        System.out.println("Mentett játék betöltve (" + applied + " lépés).");
+        return true;
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close move journal", e);
+            }
+        }
+    }
+
     private void initializeNewGame() {
         System.out.print("Adja meg a nevét: ");
         String playerName = scanner.nextLine().trim();
@@ -65,6 +153,11 @@ public class AmobaGame {
         int cols = 10;
 
         gameService.initializeGame(playerName, rows, cols);
+        try {
+            journal = MoveJournal.create(JOURNAL_FILE, rows, cols, playerName, CHECKPOINT_INTERVAL);
+        } catch (IOException e) {
+            logger.warn("Failed to create move journal, continuing without it", e);
+        }
 
         System.out.println("Új játék inicializálva " + rows + "x" + cols + " pályán.");
         System.out.println("Az első lépésnek a tábla középső területén kell lennie.");
@@ -74,23 +167,32 @@ public class AmobaGame {
         while (!gameService.isGameOver()) {
             printGameState();
 
-            if (gameService.getCurrentPlayer().getSymbol().getSymbol().equals("x")) {
-                humanTurn();
-            } else {
-                aiTurn();
+            Cell symbol = gameService.getCurrentPlayer().getSymbol();
+            Position move = symbol == Cell.X ? humanTurn() : aiTurn();
+            if (move != null) {
+                recordMove(move, symbol);
             }
+        }
+
+        printGameResult();
+    }
 
+    // Each move is one journal record; full snapshots are only written at checkpoints
+    private void recordMove(Position move, Cell symbol) {
+        if (journal != null) {
             try {
-                FileHandler.saveGame(gameService.getCurrentState(), SAVE_FILE);
+                journal.append(move, symbol);
             } catch (IOException e) {
-                logger.warn("Failed to auto-save game", e);
+                logger.warn("Failed to append move to journal", e);
             }
         }
-
-        printGameResult();
+        if (gameService.isGameOver() || ++movesSinceSnapshot >= CHECKPOINT_INTERVAL) {
+            movesSinceSnapshot = 0;
+            autoSaver.submit(gameService.getCurrentState());
+        }
     }
 
-    private void humanTurn() {
+    private Position humanTurn() {
         System.out.println("Ön következik (" + gameService.getCurrentPlayer().getSymbol().getSymbol() + ")");
 
         while (true) {
@@ -99,10 +201,18 @@ public class AmobaGame {
 
             if (input.equals("quit")) {
                 System.out.println("Játék megszakítva.");
+                closeJournal();
+                autoSaver.close();
                 System.exit(0);
             }
 
-            if (!ValidationUtil.isValidPositionString(input, 10, 10)) {
+            if (input.equals("stats")) {
+                dumpMetrics();
+                continue;
+            }
+
+            Board board = gameService.getCurrentState().getBoard();
+            if (!ValidationUtil.isValidPositionString(input, board.getRows(), board.getCols())) {
                 System.out.println("Érvénytelen pozíció formátum. Használjon pl. 'e5' formátumot.");
                 continue;
             }
@@ -110,7 +220,7 @@ public class AmobaGame {
             try {
                 Position position = Position.fromString(input);
                 if (gameService.makeHumanMove(position)) {
-                    break;
+                    return position;
                 } else {
                     System.out.println("Érvénytelen lépés. Próbálja újra.");
                 }
@@ -120,19 +230,25 @@ public class AmobaGame {
         }
     }
 
-    private void aiTurn() {
-        System.out.println("AI gondolkozik...");
-
+    private void dumpMetrics() {
         try {
-            Thread.sleep(1000); // Small delay for better UX
-            Position aiMove = gameService.makeAIMove();
+            MetricsRegistry.getDefault().writeJson(Paths.get(METRICS_JSON_FILE));
+            MetricsRegistry.getDefault().writePrometheus(Paths.get(METRICS_PROMETHEUS_FILE));
+            System.out.println("Statisztikák mentve: " + METRICS_JSON_FILE + ", " + METRICS_PROMETHEUS_FILE);
+        } catch (IOException e) {
+            logger.warn("Could not write metrics", e);
+            System.out.println("Nem sikerült a statisztikák mentése: " + e.getMessage());
+        }
+    }
 
-            if (aiMove != null) {
-                System.out.println("AI lépett: " + aiMove);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    private Position aiTurn() {
+        System.out.println("AI gondolkozik...");
+
+        Position aiMove = gameService.makeAIMoveAsync(AI_TIME_BUDGET_MILLIS).join();
+        if (aiMove != null) {
+            System.out.println("AI lépett: " + aiMove);
         }
+        return aiMove;
     }
 
     private void printGameState() {
@@ -0,0 +1,263 @@
+package Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Plays random games on the bitboard and on a plain grid board side by side and
+// checks after every move and undo that both describe the same position
+class BoardParityTest {
+    private static final int[][] SIZES = {{5, 5}, {7, 5}, {5, 9}, {10, 7}, {15, 15}, {25, 10}, {40, 63}, {64, 65}, {100, 100}};
+    private static final int MAX_LINE_LENGTH = 6;
+
+    @Test
+    void randomGamesMatchGridBoard() {
+        SplittableRandom random = new SplittableRandom(20240617L);
+        for (int[] size : SIZES) {
+            for (int game = 0; game < 4; game++) {
+                playRandomGame(size[0], size[1], random.split());
+            }
+        }
+    }
+
+    @Test
+    void unmakeWithoutMovesIsRejected() {
+        Board board = new Board(5, 5);
+        assertThrows(IllegalStateException.class, board::unmakeMove);
+        board.makeMove(2, 2, Cell.X);
+        assertThrows(IllegalStateException.class, () -> board.makeMove(2, 2, Cell.O));
+        board.unmakeMove();
+        assertThrows(IllegalStateException.class, board::unmakeMove);
+    }
+
+    private static void playRandomGame(int rows, int cols, SplittableRandom random) {
+        Board board = new Board(rows, cols);
+        GridBoard reference = new GridBoard(rows, cols);
+        // Large boards are not filled completely, so every check stays cheap
+        int moves = Math.min(rows * cols, 300);
+        Cell symbol = Cell.X;
+
+        for (int i = 0; i < moves; i++) {
+            int index = pickMove(reference, random);
+            board.makeMove(index, symbol);
+            reference.makeMove(index / cols, index % cols, symbol);
+            assertSame(reference, board);
+
+            if (random.nextInt(4) == 0) {
+                board.unmakeMove();
+                reference.unmakeMove();
+                assertSame(reference, board);
+            } else {
+                symbol = symbol == Cell.X ? Cell.O : Cell.X;
+            }
+        }
+
+        while (board.getMoveCount() > 0) {
+            board.unmakeMove();
+            reference.unmakeMove();
+            assertSame(reference, board);
+        }
+        assertEquals(new Board(rows, cols), board);
+    }
+
+    // Mostly plays next to existing stones so that lines of every length show up
+    private static int pickMove(GridBoard reference, SplittableRandom random) {
+        List<Integer> candidates = reference.frontier();
+        if (candidates.isEmpty() || random.nextInt(5) == 0) {
+            candidates = reference.emptyCells();
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private static void assertSame(GridBoard reference, Board board) {
+        assertMatches(reference, board);
+
+        Board copy = board.copy();
+        assertNotSame(board, copy);
+        assertEquals(board, copy);
+        assertEquals(board.hashCode(), copy.hashCode());
+        assertMatches(reference, copy);
+
+        // Changing the copy must leave the original alone
+        if (!copy.isFull()) {
+            int index = reference.emptyCells().get(0);
+            copy.makeMove(index, Cell.X);
+            assertEquals(Cell.EMPTY, board.getCell(index));
+            copy.unmakeMove();
+            assertEquals(board, copy);
+        }
+    }
+
+    private static void assertMatches(GridBoard reference, Board board) {
+        int rows = reference.rows;
+        int cols = reference.cols;
+        assertEquals(rows, board.getRows());
+        assertEquals(cols, board.getCols());
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                assertEquals(reference.getCell(row, col), board.getCell(row, col));
+                assertEquals(reference.getCell(row, col), board.getCell(row * cols + col));
+            }
+        }
+
+        assertEquals(reference.moves.isEmpty(), board.isEmpty());
+        assertEquals(reference.moves.size(), board.getMoveCount());
+        assertEquals(reference.moves.isEmpty() ? -1 : reference.moves.peek(), board.getLastMoveIndex());
+        assertEquals(reference.count(Cell.X), board.getStoneCount(Cell.X));
+        assertEquals(reference.count(Cell.O), board.getStoneCount(Cell.O));
+        assertEquals(reference.count(Cell.EMPTY), board.getEmptyCount());
+        assertEquals(reference.count(Cell.EMPTY) == 0, board.isFull());
+
+        for (Cell symbol : new Cell[]{Cell.X, Cell.O}) {
+            boolean[] runs = reference.runLengths(symbol);
+            boolean longer = runs[MAX_LINE_LENGTH + 1];
+            for (int length = MAX_LINE_LENGTH; length > 0; length--) {
+                longer |= runs[length];
+                assertEquals(longer, board.hasLine(symbol, length), symbol + " line of " + length);
+                assertEquals(runs[length], board.hasExactLine(symbol, length), symbol + " exact line of " + length);
+            }
+        }
+
+        List<Integer> frontier = reference.frontier();
+        assertEquals(frontier.size(), board.getFrontierCount());
+        int[] cells = new int[rows * cols];
+        int count = board.getFrontierCells(cells);
+        assertEquals(frontier.size(), count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(frontier.get(i), cells[i]);
+        }
+        boolean[] inFrontier = new boolean[rows * cols];
+        for (int index : frontier) {
+            inFrontier[index] = true;
+        }
+        for (int index = 0; index < rows * cols; index++) {
+            assertEquals(inFrontier[index], board.isFrontier(index));
+        }
+    }
+
+    // The board as it was before bitboards: a cell grid scanned cell by cell
+    private static final class GridBoard {
+        private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+        private final int rows;
+        private final int cols;
+        private final Cell[][] grid;
+        private final Deque<Integer> moves = new ArrayDeque<>();
+
+        GridBoard(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+            this.grid = new Cell[rows][cols];
+            for (Cell[] row : grid) {
+                Arrays.fill(row, Cell.EMPTY);
+            }
+        }
+
+        Cell getCell(int row, int col) {
+            return grid[row][col];
+        }
+
+        void makeMove(int row, int col, Cell symbol) {
+            grid[row][col] = symbol;
+            moves.push(row * cols + col);
+        }
+
+        void unmakeMove() {
+            int index = moves.pop();
+            grid[index / cols][index % cols] = Cell.EMPTY;
+        }
+
+        int count(Cell symbol) {
+            int count = 0;
+            for (Cell[] row : grid) {
+                for (Cell cell : row) {
+                    if (cell == symbol) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        List<Integer> emptyCells() {
+            List<Integer> cells = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    if (grid[row][col] == Cell.EMPTY) {
+                        cells.add(row * cols + col);
+                    }
+                }
+            }
+            return cells;
+        }
+
+        // Empty cells touching a stone in any of the eight directions, in index order
+        List<Integer> frontier() {
+            List<Integer> cells = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    if (grid[row][col] == Cell.EMPTY && touchesStone(row, col)) {
+                        cells.add(row * cols + col);
+                    }
+                }
+            }
+            return cells;
+        }
+
+        private boolean touchesStone(int row, int col) {
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int r = row + dr;
+                    int c = col + dc;
+                    if ((dr != 0 || dc != 0) && r >= 0 && r < rows && c >= 0 && c < cols
+                            && grid[r][c] != Cell.EMPTY) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        // Flags the lengths of all maximal runs of symbol, up to MAX_LINE_LENGTH + 1;
+        // the last slot stands for every longer run
+        boolean[] runLengths(Cell symbol) {
+            boolean[] runs = new boolean[MAX_LINE_LENGTH + 2];
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    for (int[] direction : DIRECTIONS) {
+                        int beforeRow = row - direction[0];
+                        int beforeCol = col - direction[1];
+                        boolean startsRun = !inside(beforeRow, beforeCol) || grid[beforeRow][beforeCol] != symbol;
+                        if (startsRun) {
+                            runs[Math.min(runFrom(row, col, direction, symbol), runs.length - 1)] = true;
+                        }
+                    }
+                }
+            }
+            return runs;
+        }
+
+        private int runFrom(int row, int col, int[] direction, Cell symbol) {
+            int length = 0;
+            while (inside(row, col) && grid[row][col] == symbol) {
+                length++;
+                row += direction[0];
+                col += direction[1];
+            }
+            return length;
+        }
+
+        private boolean inside(int row, int col) {
+            return row >= 0 && row < rows && col >= 0 && col < cols;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package Model;
+
+import Service.BoardService;
+import Util.FileHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The stone counters are kept incrementally, so they are checked against a recount
+// of the cells through every way a board can change or be rebuilt
+class StoneCountTest {
+    private static final int[][] SIZES = {{5, 5}, {6, 5}, {9, 7}, {12, 12}};
+
+    private final BoardService boardService = new BoardService();
+
+    @TempDir
+    Path saves;
+
+    @Test
+    void countersMatchRecountThroughWholeGames() throws IOException {
+        SplittableRandom random = new SplittableRandom(1103L);
+        for (int[] size : SIZES) {
+            Board board = new Board(size[0], size[1]);
+            assertCounts(board);
+            Cell symbol = Cell.X;
+            while (!board.isFull()) {
+                board.makeMove(randomEmptyCell(board, random), symbol);
+                assertCounts(board);
+                assertRoundTrips(board);
+
+                if (random.nextInt(3) == 0) {
+                    board.unmakeMove();
+                    assertCounts(board);
+                } else {
+                    symbol = symbol == Cell.X ? Cell.O : Cell.X;
+                }
+            }
+            assertTrue(boardService.isBoardFull(board));
+
+            while (board.getMoveCount() > 0) {
+                board.unmakeMove();
+                assertCounts(board);
+                assertFalse(boardService.isBoardFull(board));
+            }
+            assertTrue(board.isEmpty());
+        }
+    }
+
+    @Test
+    void setCellOverwritesKeepCounts() {
+        Board board = new Board(5, 5);
+        board.setCell(0, 0, Cell.X);
+        board.setCell(0, 0, Cell.O);
+        board.setCell(1, 1, Cell.O);
+        board.setCell(1, 1, Cell.EMPTY);
+        board.setCell(2, 2, Cell.EMPTY);
+        assertCounts(board);
+        assertEquals(0, board.getStoneCount(Cell.X));
+        assertEquals(1, board.getStoneCount(Cell.O));
+    }
+
+    private void assertCounts(Board board) {
+        int x = 0;
+        int o = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                Cell cell = board.getCell(row, col);
+                if (cell == Cell.X) {
+                    x++;
+                } else if (cell == Cell.O) {
+                    o++;
+                }
+            }
+        }
+        int empty = board.getRows() * board.getCols() - x - o;
+        assertEquals(x, board.getStoneCount(Cell.X));
+        assertEquals(o, board.getStoneCount(Cell.O));
+        assertEquals(empty, board.getStoneCount(Cell.EMPTY));
+        assertEquals(empty, board.getEmptyCount());
+        assertEquals(x + o == 0, board.isEmpty());
+        assertEquals(empty == 0, board.isFull());
+        assertEquals(empty == 0, boardService.isBoardFull(board));
+
+        Board copy = board.copy();
+        assertEquals(x, copy.getStoneCount(Cell.X));
+        assertEquals(o, copy.getStoneCount(Cell.O));
+        assertEquals(empty == 0, boardService.isBoardFull(copy));
+    }
+
+    // Loaded boards are rebuilt cell by cell, so their counters must come out the same
+    private void assertRoundTrips(Board board) throws IOException {
+        GameState state = GameState.builder()
+                .board(board)
+                .humanPlayer(new Player("Tester", Cell.X))
+                .aiPlayer(new Player("AI", Cell.O))
+                .currentPlayer(new Player("Tester", Cell.X))
+                .build();
+
+        String text = saves.resolve("game.txt").toString();
+        FileHandler.saveGame(state, text);
+        assertSameCounts(board, FileHandler.loadGame(text).getBoard());
+
+        String binary = saves.resolve("game.bin").toString();
+        FileHandler.saveGameBinary(state, binary);
+        assertSameCounts(board, FileHandler.loadGame(binary).getBoard());
+    }
+
+    private void assertSameCounts(Board expected, Board loaded) {
+        assertEquals(expected, loaded);
+        assertCounts(loaded);
+        assertEquals(expected.getStoneCount(Cell.X), loaded.getStoneCount(Cell.X));
+        assertEquals(expected.getStoneCount(Cell.O), loaded.getStoneCount(Cell.O));
+        assertEquals(boardService.isBoardFull(expected), boardService.isBoardFull(loaded));
+    }
+
+    private static int randomEmptyCell(Board board, SplittableRandom random) {
+        int cells = board.getRows() * board.getCols();
+        int index = random.nextInt(cells);
+        while (board.getCell(index) != Cell.EMPTY) {
+            index = (index + 1) % cells;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,92 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AIMoveSchedulerTest {
+    private static final Position MOVE = Position.fromIndex(12, 5);
+
+    // A queued request cancelled before it ever runs must still give back its admission slot
+    @Test
+    void cancelledQueuedRequestsReleaseAdmissionOnPlatformThreads() throws Exception {
+        assertCancelledQueuedRequestsReleaseAdmission(false);
+    }
+
+    @Test
+    void cancelledQueuedRequestsReleaseAdmissionOnVirtualThreads() throws Exception {
+        assertCancelledQueuedRequestsReleaseAdmission(true);
+    }
+
+    private static void assertCancelledQueuedRequestsReleaseAdmission(boolean virtualThreads) throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AIService aiService = mock(AIService.class);
+        when(aiService.makeMove(any(Board.class), any(Cell.class), anyLong())).thenAnswer(invocation -> {
+            running.countDown();
+            finish.await();
+            return MOVE;
+        });
+
+        try (AIMoveScheduler scheduler = new AIMoveScheduler(aiService, 1, 2, virtualThreads)) {
+            Board board = new Board(5, 5);
+            CompletableFuture<Position> first = scheduler.submit(board, Cell.O, 10_000);
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Position> second = scheduler.submit(board, Cell.O, 10_000);
+            CompletableFuture<Position> third = scheduler.submit(board, Cell.O, 10_000);
+            assertRejected(scheduler.submit(board, Cell.O, 10_000));
+            assertEquals(2, scheduler.getQueueDepth());
+
+            assertTrue(second.cancel(true));
+            assertTrue(third.cancel(true));
+            awaitQueueDepth(scheduler, 0);
+            assertEquals(2, scheduler.getCancelledCount());
+
+            // Both freed slots can be taken again, and no more than that
+            CompletableFuture<Position> fourth = scheduler.submit(board, Cell.O, 10_000);
+            CompletableFuture<Position> fifth = scheduler.submit(board, Cell.O, 10_000);
+            assertFalse(fourth.isCompletedExceptionally());
+            assertFalse(fifth.isCompletedExceptionally());
+            assertRejected(scheduler.submit(board, Cell.O, 10_000));
+
+            finish.countDown();
+            assertEquals(MOVE, first.get(5, TimeUnit.SECONDS));
+            assertEquals(MOVE, fourth.get(5, TimeUnit.SECONDS));
+            assertEquals(MOVE, fifth.get(5, TimeUnit.SECONDS));
+            awaitQueueDepth(scheduler, 0);
+            assertEquals(3, scheduler.getCompletedCount());
+            assertEquals(2, scheduler.getRejectedCount());
+        }
+    }
+
+    private static void assertRejected(CompletableFuture<Position> result) {
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+    }
+
+    // Virtual-thread tasks are already running when cancelled and release from their own thread
+    private static void awaitQueueDepth(AIMoveScheduler scheduler, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getQueueDepth() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, scheduler.getQueueDepth());
+    }
+}
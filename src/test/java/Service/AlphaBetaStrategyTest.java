@@ -0,0 +1,40 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameRules;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AlphaBetaStrategyTest {
+
+    // With seven in a row to win, three open fives already score past the leaf clamp
+    // under tenfold weights, so every move looked the same and the move ordering
+    // decided; scaled weights still see that stretching a five into an open six beats
+    // the move ordered first, which turns a four into a five and fills a dead O gap
+    @Test
+    void prefersBetterShapeOnLongerLines() {
+        GameRules rules = GameRules.builder().winLength(7).minSize(7).maxSize(25).build();
+        BoardService boardService = new BoardService(rules);
+        Board board = new Board(19, 19, rules);
+        for (int col = 7; col < 12; col++) {
+            board.makeMove(2, col, Cell.X);
+            board.makeMove(9, col, Cell.X);
+            board.makeMove(16, col, Cell.X);
+        }
+        for (int row = 1; row < 5; row++) {
+            board.makeMove(row, 3, Cell.X);
+        }
+        for (int col : new int[]{0, 1, 2, 4, 5}) {
+            board.makeMove(5, col, Cell.O);
+        }
+        board.makeMove(5, 6, Cell.X);
+
+        AlphaBetaStrategy strategy = new AlphaBetaStrategy(boardService, 5_000, 1);
+        Position move = strategy.selectMove(board, Cell.X);
+        board.makeMove(move, Cell.X);
+        assertEquals(6, boardService.getLongestLine(board, move.getRow(), move.getCol(), Cell.X), "chose " + move);
+    }
+}
@@ -0,0 +1,92 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameRules;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The last-move checks only walk the lines through the new stone, so they have to
+// agree with the full board scan for as long as nobody has won yet
+class CheckWinnerConsistencyTest {
+    private static final GameRules[] RULES = {
+            GameRules.DEFAULT,
+            GameRules.builder().winLength(3).build(),
+            GameRules.builder().winLength(5).overlineWins(false).build(),
+            GameRules.builder().winLength(4).overlineWins(false).build(),
+            GameRules.builder().winLength(6).minSize(6).maxSize(40).build(),
+            GameRules.builder().winLength(7).minSize(7).maxSize(100).overlineWins(false).build()
+    };
+
+    @Test
+    void lastMoveChecksAgreeWithFullScan() {
+        SplittableRandom random = new SplittableRandom(7340L);
+        int wins = 0;
+        for (GameRules rules : RULES) {
+            BoardService boardService = new BoardService(rules);
+            for (int game = 0; game < 60; game++) {
+                int rows = rules.getMinSize() + random.nextInt(Math.min(rules.getMaxSize(), 30) - rules.getMinSize() + 1);
+                // Variants keep the original game's limit of no more columns than rows
+                int cols = rules.getMinSize() + random.nextInt(rows - rules.getMinSize() + 1);
+                if (playRandomGame(boardService, new Board(rows, cols, rules), random)) {
+                    wins++;
+                }
+            }
+        }
+        // Most games have to end in a win, otherwise the winning branch is barely exercised
+        assertTrue(wins > RULES.length * 30, "only " + wins + " games were won");
+    }
+
+    @Test
+    void overlineDoesNotWinWhenDisallowed() {
+        BoardService boardService = new BoardService(GameRules.builder().winLength(5).overlineWins(false).build());
+        Board board = new Board(9, 9);
+        for (int col : new int[]{0, 1, 2, 4, 5}) {
+            board.makeMove(3, col, Cell.X);
+        }
+        board.makeMove(3, 3, Cell.X);
+        assertAllChecks(boardService, board, 3 * 9 + 3, Cell.X, false);
+
+        board.unmakeMove();
+        board.unmakeMove();
+        board.makeMove(3, 3, Cell.X);
+        assertAllChecks(boardService, board, 3 * 9 + 3, Cell.X, true);
+    }
+
+    // Returns whether the game ended with a win
+    private static boolean playRandomGame(BoardService boardService, Board board, SplittableRandom random) {
+        int[] candidates = new int[board.getRows() * board.getCols()];
+        Cell symbol = Cell.X;
+        while (!board.isFull()) {
+            int count = boardService.getValidMoves(board, candidates);
+            int index = candidates[random.nextInt(count)];
+            board.makeMove(index, symbol);
+
+            boolean won = boardService.checkWinner(board, symbol);
+            assertAllChecks(boardService, board, index, symbol, won);
+            Cell opponent = symbol == Cell.X ? Cell.O : Cell.X;
+            assertFalse(boardService.checkWinner(board, opponent));
+            if (won) {
+                return true;
+            }
+            symbol = opponent;
+        }
+        return false;
+    }
+
+    private static void assertAllChecks(BoardService boardService, Board board, int index, Cell symbol, boolean won) {
+        Position move = Position.fromIndex(index, board.getCols());
+        Supplier<String> context = () -> boardService.getRules() + " after " + symbol + " at " + move + "\n" + board;
+        assertEquals(won, boardService.checkWinner(board, symbol), context);
+        assertEquals(won, boardService.checkWinner(board, move, symbol), context);
+        assertEquals(won, boardService.checkWinner(board, index, symbol), context);
+        assertEquals(won, boardService.isWinningMove(board, move.getRow(), move.getCol(), symbol), context);
+    }
+}
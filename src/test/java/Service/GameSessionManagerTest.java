@@ -0,0 +1,83 @@
+package Service;
+
+import Model.Cell;
+import Model.GameState;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSessionManagerTest {
+    private static final long IDLE_MILLIS = 20;
+
+    private final BoardService boardService = new BoardService();
+    private final AIService aiService = new AIService(boardService);
+
+    @TempDir
+    Path saves;
+
+    @Test
+    void hasSessionRejectsMalformedIdsWithoutThrowing() throws Exception {
+        try (GameSessionManager manager = new GameSessionManager(boardService, aiService, saves, 60_000)) {
+            assertFalse(manager.hasSession("not-a-session"));
+            assertFalse(manager.hasSession("../escape"));
+            assertFalse(manager.hasSession(UUID.randomUUID().toString().toUpperCase()));
+            assertFalse(manager.hasSession(UUID.randomUUID().toString()));
+            assertTrue(manager.hasSession(manager.createSession("Tester", 9, 9)));
+        }
+    }
+
+    @Test
+    void evictionWaitsForStart() throws Exception {
+        try (GameSessionManager manager = new GameSessionManager(boardService, aiService, saves, IDLE_MILLIS)) {
+            manager.createSession("Tester", 9, 9);
+            Thread.sleep(IDLE_MILLIS * 5);
+            assertEquals(1, manager.getActiveSessionCount());
+
+            manager.start();
+            assertThrows(IllegalStateException.class, manager::start);
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (manager.getActiveSessionCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(IDLE_MILLIS);
+            }
+            assertEquals(0, manager.getActiveSessionCount());
+        }
+    }
+
+    @Test
+    void evictedSessionReloadsFromItsSave() throws Exception {
+        try (GameSessionManager manager = new GameSessionManager(boardService, aiService, saves, IDLE_MILLIS)) {
+            String session = manager.createSession("Tester", 9, 9);
+            assertTrue(manager.makeMove(session, new Position(4, 4)));
+            Thread.sleep(IDLE_MILLIS * 3);
+
+            assertEquals(1, manager.evictIdleSessions());
+            assertEquals(0, manager.getActiveSessionCount());
+            assertTrue(manager.hasSession(session));
+
+            GameState state = manager.getState(session);
+            assertEquals(1, manager.getActiveSessionCount());
+            assertEquals(Cell.X, state.getBoard().getCell(4, 4));
+
+            manager.closeSession(session);
+            assertFalse(manager.hasSession(session));
+        }
+    }
+
+    @Test
+    void recentlyUsedSessionsAreKept() throws Exception {
+        try (GameSessionManager manager = new GameSessionManager(boardService, aiService, saves, 60_000)) {
+            String session = manager.createSession("Tester", 9, 9);
+            assertEquals(0, manager.evictIdleSessions());
+            assertEquals(1, manager.getActiveSessionCount());
+            assertTrue(manager.hasSession(session));
+        }
+    }
+}
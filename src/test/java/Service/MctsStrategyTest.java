@@ -0,0 +1,25 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MctsStrategyTest {
+
+    @Test
+    void allocationIsReportedOnlyForPlatformThreads() throws InterruptedException {
+        MctsStrategy strategy = new MctsStrategy(new BoardService(), 50);
+        Board board = new Board(7, 7);
+        board.makeMove(3, 3, Cell.X);
+
+        Thread.ofPlatform().start(() -> strategy.selectMove(board, Cell.O)).join();
+        assertTrue(strategy.getLastPlayoutsPerSecond() > 0);
+        assertTrue(strategy.getLastBytesPerPlayout() >= 0);
+
+        Thread.ofVirtual().start(() -> strategy.selectMove(board, Cell.O)).join();
+        assertTrue(strategy.getLastPlayoutsPerSecond() > 0);
+        assertTrue(Double.isNaN(strategy.getLastBytesPerPlayout()));
+    }
+}
@@ -0,0 +1,56 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatternEvaluatorTest {
+
+    // Weights grow tenfold per stone, which overflowed an int from a winning length of ten
+    @Test
+    void longRunsScoreHigherWithoutOverflow() {
+        for (int winLength : new int[]{4, 10, 12, 20, 40}) {
+            Board board = new Board(50, 50);
+            PatternEvaluator evaluator = new PatternEvaluator(winLength);
+            evaluator.reset(board);
+            int previous = evaluator.evaluate(Cell.X);
+            for (int col = 1; col <= winLength; col++) {
+                board.makeMove(25, col, Cell.X);
+                evaluator.update(board, 25, col);
+                int score = evaluator.evaluate(Cell.X);
+                assertTrue(score >= previous, "run of " + col + " for win length " + winLength);
+                assertTrue(col == 1 || score > 0);
+                assertEquals(-score, evaluator.evaluate(Cell.O));
+                previous = score;
+            }
+        }
+    }
+
+    @Test
+    void incrementalScoreMatchesReset() {
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int winLength : new int[]{4, 5, 12}) {
+            Board board = new Board(30, 30);
+            PatternEvaluator incremental = new PatternEvaluator(winLength, false);
+            PatternEvaluator fresh = new PatternEvaluator(winLength, false);
+            incremental.reset(board);
+            Cell symbol = Cell.X;
+            for (int move = 0; move < 400; move++) {
+                int index = random.nextInt(900);
+                if (board.getCell(index) != Cell.EMPTY) {
+                    continue;
+                }
+                board.makeMove(index, symbol);
+                incremental.update(board, index / 30, index % 30);
+                fresh.reset(board);
+                assertEquals(fresh.evaluate(Cell.X), incremental.evaluate(Cell.X));
+                symbol = symbol == Cell.X ? Cell.O : Cell.X;
+            }
+        }
+    }
+}
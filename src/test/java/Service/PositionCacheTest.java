@@ -0,0 +1,129 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Model.Symmetry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionCacheTest {
+
+    @Test
+    void symmetricPositionsShareOneEntry() {
+        PositionCache cache = new PositionCache(64);
+        Board board = new Board(9, 9);
+        board.makeMove(1, 2, Cell.X);
+        board.makeMove(4, 4, Cell.O);
+        board.makeMove(2, 6, Cell.X);
+        Position move = new Position(3, 5);
+        cache.store(board, Cell.O, move);
+
+        for (Symmetry symmetry : Symmetry.forBoard(9, 9)) {
+            Board image = transform(board, symmetry);
+            assertEquals(symmetry.apply(move, 9, 9), cache.lookup(image, Cell.O), symmetry.name());
+        }
+        assertNull(cache.lookup(board, Cell.X));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void fullTableEvictsInsteadOfGrowing() {
+        PositionCache cache = new PositionCache(16);
+        SplittableRandom random = new SplittableRandom(5L);
+        for (int i = 0; i < 200; i++) {
+            cache.store(randomBoard(random, 10), Cell.X, new Position(0, 0));
+        }
+        assertEquals(16, cache.getCapacity());
+        assertTrue(cache.size() <= 16);
+        assertTrue(cache.getEvictions() > 0);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    // Threads overwrite one another's slots; a lookup may miss, but a hit must never
+    // return a move stored for a different position
+    @Test
+    void concurrentUseNeverReturnsAnotherPositionsMove() throws Exception {
+        PositionCache cache = new PositionCache(256);
+        AtomicInteger hits = new AtomicInteger();
+        int threads = 4;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        Board board = randomBoard(random, 3);
+                        Position expected = expectedMove(board);
+                        Position cached = cache.lookup(board, Cell.X);
+                        if (cached != null) {
+                            assertEquals(expected, cached);
+                            hits.incrementAndGet();
+                        } else {
+                            cache.store(board, Cell.X, expected);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertTrue(hits.get() > 0);
+    }
+
+    // A move that follows the position under every symmetry: the cell mirrored
+    // through the centre from the first stone in canonical order
+    private static Position expectedMove(Board board) {
+        Symmetry symmetry = Symmetry.canonical(board);
+        Board canonical = transform(board, symmetry);
+        for (int index = 0; index < 25; index++) {
+            if (canonical.getCell(index) != Cell.EMPTY) {
+                Position mirrored = Position.fromIndex(24 - index, 5);
+                return symmetry.inverse().apply(mirrored, 5, 5);
+            }
+        }
+        return new Position(2, 2);
+    }
+
+    private static Board randomBoard(SplittableRandom random, int stones) {
+        Board board = new Board(5, 5);
+        for (int i = 0; i < stones; i++) {
+            int index = random.nextInt(25);
+            if (board.getCell(index) == Cell.EMPTY) {
+                board.makeMove(index, i % 2 == 0 ? Cell.X : Cell.O);
+            }
+        }
+        return board;
+    }
+
+    private static Board transform(Board board, Symmetry symmetry) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        Board image = new Board(rows, cols);
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Cell cell = board.getCell(row, col);
+                if (cell != Cell.EMPTY) {
+                    image.setCell(symmetry.apply(new Position(row, col), rows, cols), cell);
+                }
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,108 @@
+package Service;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThreatSolverTest {
+    private static final long TIME_LIMIT_MILLIS = 10_000;
+
+    private final BoardService boardService = new BoardService();
+
+    // Four in a row wins. X fours on row 6 against the edge, O must block at (6,3),
+    // and (5,2) then opens column 2 at both ends; one attacker move is not enough
+    @Test
+    void findsContinuousFourWin() {
+        Board board = vcfPosition();
+
+        assertEquals(new Position(6, 2), fours(12).solve(board, Cell.X));
+        assertNull(fours(1).solve(board, Cell.X));
+    }
+
+    // The same attack, but blocking at (6,3) gives O a four on column 3, so O wins
+    // before X can use the double four
+    @Test
+    void rejectsFourAnsweredByCounterFour() {
+        Board board = vcfPosition();
+        board.makeMove(7, 3, Cell.O);
+        board.makeMove(8, 3, Cell.O);
+
+        assertNull(fours(12).solve(board, Cell.X));
+    }
+
+    // Two unconnected X stones give no four, but a move on both of their lines makes
+    // two threes and O cannot stop both
+    @Test
+    void findsWinThroughOpenThrees() {
+        Board board = new Board(9, 9);
+        board.makeMove(4, 3, Cell.X);
+        board.makeMove(0, 0, Cell.O);
+        board.makeMove(2, 4, Cell.X);
+        board.makeMove(8, 8, Cell.O);
+
+        assertNull(fours(12).solve(board, Cell.X));
+
+        ThreatSolver solver = new ThreatSolver(boardService, 12, 4, TIME_LIMIT_MILLIS);
+        Position move = solver.solve(board, Cell.X);
+        assertNotNull(move);
+        board.makeMove(move, Cell.X);
+        assertEquals(0, winningSquares(board, Cell.X), "chose a four at " + move);
+
+        int[] frontier = new int[board.getRows() * board.getCols()];
+        int count = board.getFrontierCells(frontier);
+        for (int i = 0; i < count; i++) {
+            board.makeMove(frontier[i], Cell.O);
+            assertNotNull(solver.solve(board, Cell.X), "no win after O at " + frontier[i]);
+            board.unmakeMove();
+        }
+    }
+
+    @Test
+    void blocksOpponentFour() {
+        Board board = new Board(9, 9);
+        board.makeMove(2, 2, Cell.X);
+        board.makeMove(2, 1, Cell.O);
+        board.makeMove(2, 3, Cell.X);
+        board.makeMove(6, 6, Cell.O);
+        board.makeMove(2, 4, Cell.X);
+
+        assertEquals(new Position(2, 5), new ThreatSolver(boardService).solve(board, Cell.O));
+    }
+
+    @Test
+    void rejectsVctDepthOfOne() {
+        assertThrows(IllegalArgumentException.class, () -> new ThreatSolver(boardService, 12, 1, TIME_LIMIT_MILLIS));
+    }
+
+    private ThreatSolver fours(int depth) {
+        return new ThreatSolver(boardService, depth, 0, TIME_LIMIT_MILLIS);
+    }
+
+    // The diagonal from (6,0) through (4,2) is closed by O at (3,3)
+    private static Board vcfPosition() {
+        Board board = new Board(9, 9);
+        board.makeMove(6, 0, Cell.X);
+        board.makeMove(3, 3, Cell.O);
+        board.makeMove(6, 1, Cell.X);
+        board.makeMove(4, 2, Cell.X);
+        return board;
+    }
+
+    private int winningSquares(Board board, Cell symbol) {
+        int count = 0;
+        for (int row = 0; row < board.getRows(); row++) {
+            for (int col = 0; col < board.getCols(); col++) {
+                if (board.getCell(row, col) == Cell.EMPTY && boardService.isWinningMove(board, row, col, symbol)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,144 @@
+package Tools;
+
+import Model.Position;
+import Service.AIService;
+import Service.BoardService;
+import Service.GameSessionManager;
+import Service.RandomMoveStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Unexpected exceptions while serving one connection must answer and drop that
+// connection only, with the selector thread carrying on for everyone else
+class GameServerTest {
+    private GameServer server;
+    private Thread selectorThread;
+
+    @TempDir
+    Path saves;
+
+    private static GameSessionManager stubbedSessions() {
+        GameSessionManager sessions = mock(GameSessionManager.class);
+        when(sessions.createSession(eq("good"), anyInt(), anyInt())).thenReturn("s1");
+        when(sessions.createSession(eq("bad"), anyInt(), anyInt())).thenThrow(new NullPointerException("boom"));
+        when(sessions.makeAIMoveAsync(eq("s2"), anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(new Position(0, 0)));
+        when(sessions.getState("s2")).thenThrow(new NullPointerException("boom"));
+        return sessions;
+    }
+
+    private void serve(GameSessionManager sessions) throws IOException {
+        server = new GameServer(sessions, new InetSocketAddress("localhost", 0), 10);
+        selectorThread = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }, "game-server-test");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        if (server != null) {
+            server.close();
+            selectorThread.join(5_000);
+        }
+    }
+
+    @Test
+    void failingRequestClosesOnlyItsConnection() throws IOException {
+        serve(stubbedSessions());
+        try (Client failing = new Client(server.getPort()); Client healthy = new Client(server.getPort())) {
+            assertEquals("ERR internal error", failing.send("NEW 5 5 bad"));
+            assertNull(failing.in.readLine());
+
+            assertEquals("OK s1", healthy.send("NEW 5 5 good"));
+            assertEquals("ERR unknown command", healthy.send("PING"));
+        }
+    }
+
+    @Test
+    void failingCompletionClosesOnlyItsConnection() throws IOException {
+        serve(stubbedSessions());
+        try (Client failing = new Client(server.getPort()); Client healthy = new Client(server.getPort())) {
+            assertEquals("ERR internal error", failing.send("AI s2"));
+            assertNull(failing.in.readLine());
+
+            assertEquals("OK s1", healthy.send("NEW 5 5 good"));
+        }
+        try (Client later = new Client(server.getPort())) {
+            assertEquals("OK s1", later.send("NEW 5 5 good"));
+        }
+    }
+
+    // A rejected AI request must leave the connection reading further requests
+    @Test
+    void aiRequestForUnknownSessionKeepsConnectionUsable() throws IOException {
+        BoardService boardService = new BoardService();
+        try (GameSessionManager sessions = new GameSessionManager(boardService,
+                new AIService(boardService, new RandomMoveStrategy(boardService)), saves, 60_000)) {
+            serve(sessions);
+            try (Client client = new Client(server.getPort())) {
+                assertTrue(client.send("AI foo").startsWith("ERR "));
+                assertTrue(client.send("AI").startsWith("ERR "));
+                assertTrue(client.send("AI " + UUID.randomUUID()).startsWith("ERR "));
+
+                String[] created = client.send("NEW 9 9 tester").split(" ");
+                assertEquals("OK", created[0]);
+                assertEquals("OK", client.send("CLOSE " + created[1]));
+                assertTrue(client.send("AI " + created[1]).startsWith("ERR "));
+                assertTrue(client.send("STATE " + created[1]).startsWith("ERR "));
+                assertTrue(client.send("NEW 9 9 tester").startsWith("OK "));
+            }
+        }
+    }
+
+    private static final class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader in;
+        private final Writer out;
+
+        Client(int port) throws IOException {
+            socket = new Socket("localhost", port);
+            socket.setSoTimeout(5_000);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+        }
+
+        String send(String request) throws IOException {
+            out.write(request + "\n");
+            out.flush();
+            return in.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package Util;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameState;
+import Model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncGameSaverTest {
+    @TempDir
+    Path saves;
+
+    @Test
+    void flushWaitsForLatestState() throws IOException {
+        Path path = saves.resolve("game.sav");
+        GameState state = sampleGame();
+        try (AsyncGameSaver saver = new AsyncGameSaver(path.toString())) {
+            saver.submit(state);
+            saver.flush();
+        }
+        assertEquals(state, FileHandler.loadGame(path.toString()));
+    }
+
+    // A runtime failure used to end the writer thread, so the next flush never returned
+    @Test
+    void writerSurvivesRuntimeFailure() throws IOException {
+        Path path = saves.resolve("game.sav");
+        GameState broken = mock(GameState.class);
+        when(broken.getBoard()).thenThrow(new IllegalStateException("broken state"));
+        GameState state = sampleGame();
+
+        try (AsyncGameSaver saver = new AsyncGameSaver(path.toString())) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                saver.submit(broken);
+                saver.flush();
+                saver.submit(state);
+                saver.flush();
+            });
+        }
+        assertEquals(state, FileHandler.loadGame(path.toString()));
+    }
+
+    private static GameState sampleGame() {
+        Board board = new Board(7, 6);
+        board.makeMove(3, 3, Cell.X);
+        board.makeMove(3, 4, Cell.O);
+        Player human = new Player("Tester", Cell.X);
+        return GameState.builder()
+                .board(board)
+                .humanPlayer(human)
+                .aiPlayer(new Player("AI", Cell.O))
+                .currentPlayer(human)
+                .build();
+    }
+}
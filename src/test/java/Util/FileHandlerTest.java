@@ -0,0 +1,95 @@
+package Util;
+
+import Model.Board;
+import Model.Cell;
+import Model.GameState;
+import Model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileHandlerTest {
+    // Offsets into the binary layout documented in FileHandler
+    private static final int ROWS_OFFSET = 5;
+    private static final int NAME_LENGTH_OFFSET = 10;
+
+    @TempDir
+    Path saves;
+
+    @Test
+    void binaryRoundTrip() throws IOException {
+        GameState state = sampleGame();
+        Path path = saves.resolve("game.bin");
+        FileHandler.saveGameBinary(state, path.toString());
+        assertEquals(state, FileHandler.loadGame(path.toString()));
+    }
+
+    @Test
+    void truncatedBinarySavesFailWithIOException() throws IOException {
+        byte[] save = binarySave();
+        // Four bytes or fewer cannot hold the magic, and are read as text saves instead
+        for (int length = Integer.BYTES; length < save.length; length++) {
+            Path path = saves.resolve("truncated-" + length + ".bin");
+            Files.write(path, Arrays.copyOf(save, length));
+            assertThrows(IOException.class, () -> FileHandler.loadGame(path.toString()), "length " + length);
+        }
+    }
+
+    @Test
+    void corruptBinarySavesFailWithIOException() throws IOException {
+        byte[] save = binarySave();
+
+        byte[] hugeBoard = save.clone();
+        ByteBuffer.wrap(hugeBoard).putShort(ROWS_OFFSET, (short) 30_000);
+        assertLoadFails(hugeBoard);
+
+        byte[] negativeBoard = save.clone();
+        ByteBuffer.wrap(negativeBoard).putShort(ROWS_OFFSET, (short) -7);
+        assertLoadFails(negativeBoard);
+
+        byte[] longName = save.clone();
+        ByteBuffer.wrap(longName).putShort(NAME_LENGTH_OFFSET, (short) 0xFFFF);
+        assertLoadFails(longName);
+
+        byte[] emptyName = save.clone();
+        ByteBuffer.wrap(emptyName).putShort(NAME_LENGTH_OFFSET, (short) 0);
+        assertLoadFails(emptyName);
+
+        byte[] badCell = save.clone();
+        badCell[badCell.length - 1] = (byte) 0xFF;
+        assertLoadFails(badCell);
+    }
+
+    private void assertLoadFails(byte[] save) throws IOException {
+        Path path = Files.write(saves.resolve("corrupt.bin"), save);
+        assertThrows(IOException.class, () -> FileHandler.loadGame(path.toString()));
+    }
+
+    private byte[] binarySave() throws IOException {
+        Path path = saves.resolve("source.bin");
+        FileHandler.saveGameBinary(sampleGame(), path.toString());
+        return Files.readAllBytes(path);
+    }
+
+    private static GameState sampleGame() {
+        Board board = new Board(7, 6);
+        board.makeMove(3, 3, Cell.X);
+        board.makeMove(3, 4, Cell.O);
+        board.makeMove(6, 5, Cell.X);
+        Player human = new Player("Tester", Cell.X);
+        return GameState.builder()
+                .board(board)
+                .humanPlayer(human)
+                .aiPlayer(new Player("AI", Cell.O))
+                .currentPlayer(human)
+                .build();
+    }
+}
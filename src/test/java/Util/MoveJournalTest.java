@@ -0,0 +1,116 @@
+package Util;
+
+import Model.Cell;
+import Model.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoveJournalTest {
+    // Offsets into the journal layout documented in MoveJournal
+    private static final int ROWS_OFFSET = 5;
+    private static final int COLS_OFFSET = 7;
+    private static final int NAME_LENGTH_OFFSET = 9;
+    private static final String NAME = "Tester";
+    private static final int HEADER_BYTES = 11 + NAME.length();
+    private static final List<Position> MOVES = List.of(new Position(4, 4), new Position(4, 5),
+            new Position(5, 5), new Position(0, 8));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTrip() throws IOException {
+        Path path = writeJournal();
+        MoveJournal.Contents contents = MoveJournal.read(path.toString());
+        assertEquals(9, contents.getRows());
+        assertEquals(9, contents.getCols());
+        assertEquals(NAME, contents.getHumanName());
+        assertEquals(MOVES, contents.getMoves());
+        assertEquals(List.of(Cell.X, Cell.O, Cell.X, Cell.O), contents.getSymbols());
+        assertFalse(Files.exists(dir.resolve("game.journal.tmp")));
+        assertNull(MoveJournal.read(dir.resolve("missing.journal").toString()));
+    }
+
+    @Test
+    void appendAfterRecoveryDropsTornRecord() throws IOException {
+        Path path = writeJournal();
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        MoveJournal.Contents contents = MoveJournal.read(path.toString());
+        assertEquals(MOVES.subList(0, 3), contents.getMoves());
+        try (MoveJournal journal = MoveJournal.openForAppend(path.toString(), contents, 3, 1)) {
+            journal.append(new Position(8, 0), Cell.O);
+        }
+        assertEquals(List.of(MOVES.get(0), MOVES.get(1), MOVES.get(2), new Position(8, 0)),
+                MoveJournal.read(path.toString()).getMoves());
+    }
+
+    @Test
+    void createReplacesAnOldJournal() throws IOException {
+        Path path = writeJournal();
+        MoveJournal.create(path.toString(), 7, 6, "Other", 1).close();
+        MoveJournal.Contents contents = MoveJournal.read(path.toString());
+        assertEquals(7, contents.getRows());
+        assertEquals("Other", contents.getHumanName());
+        assertEquals(List.of(), contents.getMoves());
+    }
+
+    @Test
+    void truncatedHeadersFailWithIOException() throws IOException {
+        byte[] journal = Files.readAllBytes(writeJournal());
+        for (int length = 0; length < HEADER_BYTES; length++) {
+            Path path = Files.write(dir.resolve("truncated-" + length + ".journal"), Arrays.copyOf(journal, length));
+            assertThrows(IOException.class, () -> MoveJournal.read(path.toString()), "length " + length);
+        }
+        Path headerOnly = Files.write(dir.resolve("header.journal"), Arrays.copyOf(journal, HEADER_BYTES));
+        assertEquals(List.of(), MoveJournal.read(headerOnly.toString()).getMoves());
+    }
+
+    @Test
+    void corruptHeadersFailWithIOException() throws IOException {
+        byte[] journal = Files.readAllBytes(writeJournal());
+        assertReadFails(withShort(journal, ROWS_OFFSET, 0));
+        assertReadFails(withShort(journal, ROWS_OFFSET, 30_000));
+        assertReadFails(withShort(journal, COLS_OFFSET, -3));
+        assertReadFails(withShort(journal, NAME_LENGTH_OFFSET, 0xFFFF));
+        assertReadFails(withShort(journal, NAME_LENGTH_OFFSET, 0));
+
+        byte[] badVersion = journal.clone();
+        badVersion[Integer.BYTES] = 9;
+        assertReadFails(badVersion);
+    }
+
+    private Path writeJournal() throws IOException {
+        Path path = dir.resolve("game.journal");
+        try (MoveJournal journal = MoveJournal.create(path.toString(), 9, 9, NAME, 2)) {
+            for (int i = 0; i < MOVES.size(); i++) {
+                journal.append(MOVES.get(i), i % 2 == 0 ? Cell.X : Cell.O);
+            }
+        }
+        return path;
+    }
+
+    private static byte[] withShort(byte[] journal, int offset, int value) {
+        byte[] copy = journal.clone();
+        ByteBuffer.wrap(copy).putShort(offset, (short) value);
+        return copy;
+    }
+
+    private void assertReadFails(byte[] journal) throws IOException {
+        Path path = Files.write(dir.resolve("corrupt.journal"), journal);
+        assertThrows(IOException.class, () -> MoveJournal.read(path.toString()));
+    }
+}
@@ -0,0 +1,106 @@
+package Util;
+
+import Model.Board;
+import Model.Cell;
+import Model.Position;
+import Model.Symmetry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OpeningBookTest {
+    private static final int SIZE = 9;
+    private static final int MAX_PLY = 6;
+    // Placed with no symmetry of its own, so every image of it is a distinct board
+    private static final Position[] X_STONES = {Position.of(4, 4), Position.of(2, 5)};
+    private static final Position[] O_STONES = {Position.of(3, 4)};
+    private static final Position BOOK_MOVE = Position.of(5, 3);
+
+    @TempDir
+    Path books;
+
+    // Filler keys of both signs around the stored position make the binary search
+    // depend on the signed order the book is written in
+    @Test
+    void lookupFindsMoveInEverySymmetry() throws IOException {
+        Board board = imageOf(Symmetry.IDENTITY);
+        Symmetry canonical = Symmetry.canonical(board);
+        Position canonicalMove = canonical.apply(BOOK_MOVE, SIZE, SIZE);
+
+        Map<Long, Integer> entries = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(19);
+        for (int i = 0; i < 1_000; i++) {
+            entries.put(random.nextLong(), random.nextInt(SIZE * SIZE));
+        }
+        entries.put(board.getZobristKey(canonical), canonicalMove.getRow() * SIZE + canonicalMove.getCol());
+        OpeningBook book = writeAndOpen(entries);
+        assertEquals(entries.size(), book.size());
+
+        for (Symmetry symmetry : Symmetry.values()) {
+            Board image = imageOf(symmetry);
+            assertEquals(board.getZobristKey(symmetry), image.getZobristKey(), symmetry.name());
+            assertEquals(symmetry.apply(BOOK_MOVE, SIZE, SIZE), book.lookup(image), symmetry.name());
+        }
+
+        Board unknown = imageOf(Symmetry.IDENTITY);
+        unknown.makeMove(0, 0, Cell.X);
+        assertNull(book.lookup(unknown));
+    }
+
+    @Test
+    void lookupOutsideBookLimitsReturnsNull() throws IOException {
+        Board board = imageOf(Symmetry.IDENTITY);
+        Symmetry canonical = Symmetry.canonical(board);
+        OpeningBook book = writeAndOpen(Map.of(board.getZobristKey(canonical), 0));
+
+        Board otherSize = new Board(SIZE + 1, SIZE + 1);
+        otherSize.makeMove(4, 4, Cell.X);
+        assertNull(book.lookup(otherSize));
+
+        Board deep = imageOf(Symmetry.IDENTITY);
+        for (int col = 0; col < MAX_PLY; col++) {
+            deep.makeMove(8, col, col % 2 == 0 ? Cell.X : Cell.O);
+        }
+        assertNull(book.lookup(deep));
+    }
+
+    @Test
+    void truncatedBooksFailWithIOException() throws IOException {
+        Path path = books.resolve("source.book");
+        OpeningBook.write(path.toString(), SIZE, SIZE, 4, MAX_PLY, Map.of(-5L, 1, 7L, 2, 11L, 3));
+        byte[] book = Files.readAllBytes(path);
+
+        for (int length = 0; length < book.length; length++) {
+            Path truncated = Files.write(books.resolve("truncated-" + length + ".book"), Arrays.copyOf(book, length));
+            assertThrows(IOException.class, () -> OpeningBook.open(truncated.toString()), "length " + length);
+        }
+    }
+
+    private OpeningBook writeAndOpen(Map<Long, Integer> entries) throws IOException {
+        Path path = books.resolve("opening.book");
+        OpeningBook.write(path.toString(), SIZE, SIZE, 4, MAX_PLY, entries);
+        return OpeningBook.open(path.toString());
+    }
+
+    private static Board imageOf(Symmetry symmetry) {
+        Board board = new Board(SIZE, SIZE);
+        for (Position stone : X_STONES) {
+            board.makeMove(symmetry.apply(stone, SIZE, SIZE), Cell.X);
+        }
+        for (Position stone : O_STONES) {
+            board.makeMove(symmetry.apply(stone, SIZE, SIZE), Cell.O);
+        }
+        return board;
+    }
+}